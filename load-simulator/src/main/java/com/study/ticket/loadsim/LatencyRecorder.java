@@ -0,0 +1,69 @@
+package com.study.ticket.loadsim;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간/상태 코드 수집
+ * 실행 중에는 값을 모으기만 하고 백분위수는 끝난 뒤 정렬해서 계산한다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, int status, long elapsedNanos) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(status, elapsedNanos);
+    }
+
+    /**
+     * @param elapsedSeconds 전체 실행 시간 (처리량 계산용)
+     */
+    Map<String, Object> summarize(double elapsedSeconds) {
+        Map<String, Object> summary = new TreeMap<>();
+        samples.forEach((endpoint, endpointSamples) -> summary.put(endpoint, endpointSamples.summarize(elapsedSeconds)));
+        return summary;
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+        synchronized void add(int status, long elapsedNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            statusCounts.merge(status, 1L, Long::sum);
+        }
+
+        synchronized Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", size);
+            result.put("throughputPerSec", round(size / elapsedSeconds));
+            result.put("p50Ms", percentileMillis(sorted, 0.50));
+            result.put("p99Ms", percentileMillis(sorted, 0.99));
+            result.put("p999Ms", percentileMillis(sorted, 0.999));
+            result.put("maxMs", size == 0 ? 0 : round(sorted[size - 1] / 1_000_000.0));
+            result.put("statusCounts", new TreeMap<>(statusCounts));
+            return result;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return round(sorted[Math.max(index, 0)] / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.study.ticket.loadsim;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 티켓 오픈 부하 시뮬레이터
+ * [실행 순서]
+ * 1. 대상 준비: local이면 임베디드 Redis/Kafka + H2로 애플리케이션 기동, 아니면 주어진 URL 사용.
+ * 2. 데이터 준비: DB에 접근 가능하면 회차/좌석/유저를 새로 생성.
+ * 3. 트레이스 준비: JSONL 파일을 읽거나 도착 곡선으로 생성 (같은 시드면 같은 트레이스).
+ * 4. 유저마다 가상 스레드 하나로 도착 시각에 맞춰 예매 흐름 실행.
+ * 5. 결과 집계 후 콘솔과 JSON 파일로 출력. 초과 판매가 발생하면 종료 코드 1.
+ */
+public final class LoadSimulator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadSimulator.class);
+
+    private LoadSimulator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulatorOptions options = SimulatorOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        LocalStack localStack = options.local() ? LocalStack.start() : null;
+        int exitCode = 0;
+        try {
+            String baseUrl = localStack != null ? localStack.baseUrl() : options.target();
+            SimulationDatabase database = localStack != null
+                    ? new SimulationDatabase(localStack.dataSource())
+                    : remoteDatabase(options);
+
+            List<TraceEvent> trace = options.trace() != null
+                    ? Traces.read(options.trace(), objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT))
+                    : Traces.synthesize(options.users(), options.arrival(), options.arrivalWindowMs(),
+                    options.seed(), options.maxAttempts());
+            if (options.saveTrace() != null) {
+                Traces.write(options.saveTrace(), trace, objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT));
+            }
+
+            long concertOptionId;
+            long[] userIds = null;
+            if (database != null) {
+                SimulationDatabase.Seeded seeded = database.seed(trace.size(), options.seats());
+                concertOptionId = seeded.concertOptionId();
+                userIds = seeded.userIds();
+            } else if (options.concertOptionId() != null) {
+                concertOptionId = options.concertOptionId();
+            } else {
+                throw new IllegalArgumentException("DB 없이 원격 대상에 실행하려면 --concert-option-id가 필요합니다.");
+            }
+            log.info("시뮬레이션 시작: target={}, concertOptionId={}, users={}, seats={}",
+                    baseUrl, concertOptionId, trace.size(), options.seats());
+
+            Map<String, Object> report = run(options, objectMapper, baseUrl, database, trace, concertOptionId, userIds);
+
+            String json = objectMapper.writeValueAsString(report);
+            System.out.println(json);
+            if (options.report().getParent() != null) {
+                Files.createDirectories(options.report().getParent());
+            }
+            Files.writeString(options.report(), json);
+            log.info("결과 저장: {}", options.report().toAbsolutePath());
+
+            if (SimulationReport.oversold(report)) {
+                log.error("초과 판매 발생");
+                exitCode = 1;
+            }
+        } finally {
+            if (localStack != null) {
+                localStack.close();
+            }
+        }
+        // 로컬 스택을 정리한 뒤 종료 코드 반환 (try 안에서 System.exit 하면 finally가 실행되지 않음)
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    private static Map<String, Object> run(SimulatorOptions options, ObjectMapper objectMapper, String baseUrl,
+                                           SimulationDatabase database, List<TraceEvent> trace,
+                                           long concertOptionId, long[] userIds) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(executor)
+                    .build();
+            UserJourney.Context context = new UserJourney.Context(httpClient, baseUrl, concertOptionId,
+                    objectMapper, recorder, database);
+
+            long startedAt = System.nanoTime();
+            List<Future<UserJourney.Result>> futures = new ArrayList<>(trace.size());
+            for (int i = 0; i < trace.size(); i++) {
+                TraceEvent event = trace.get(i);
+                long userId = userIds != null && event.userId() <= userIds.length
+                        ? userIds[(int) event.userId() - 1]
+                        : event.userId();
+                int attempts = event.attempts() > 0 ? event.attempts() : options.maxAttempts();
+                UserJourney journey = new UserJourney(context, i, userId, attempts);
+                futures.add(executor.submit(() -> {
+                    long delayNanos = startedAt + TimeUnit.MILLISECONDS.toNanos(event.arriveAtMs()) - System.nanoTime();
+                    if (delayNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(delayNanos);
+                    }
+                    return journey.run();
+                }));
+            }
+
+            long deadline = startedAt + TimeUnit.SECONDS.toNanos(options.timeoutSeconds());
+            List<UserJourney.Result> results = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    futures.get(i).cancel(true);
+                    results.add(new UserJourney.Result(i, -1, UserJourney.Outcome.ERROR));
+                }
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            Long oversold = database == null ? null : database.countOversoldSeats(concertOptionId);
+            Long paid = database == null ? null : database.countPaidReservations(concertOptionId);
+            executor.shutdownNow();
+            return SimulationReport.build(results, context, elapsedSeconds, oversold, paid);
+        }
+    }
+
+    private static SimulationDatabase remoteDatabase(SimulatorOptions options) {
+        if (options.jdbcUrl() == null) {
+            return null;
+        }
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                options.jdbcUrl(), options.jdbcUser(), options.jdbcPassword());
+        return new SimulationDatabase(dataSource);
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.ticket.loadsim;
+
+import com.study.ticket.TicketApplication;
+import com.study.ticket.common.kafka.KafkaTopics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import redis.embedded.RedisServer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 오프라인 실행용 로컬 환경
+ * 임베디드 Redis와 Kafka(KRaft)를 띄우고, 'simulation' 프로필(H2)로 티켓 애플리케이션을 같은 JVM에서 기동한다.
+ */
+final class LocalStack implements AutoCloseable {
+
+    private final RedisServer redisServer;
+    private final EmbeddedKafkaKraftBroker kafkaBroker;
+    private final ConfigurableApplicationContext application;
+
+    private LocalStack(RedisServer redisServer, EmbeddedKafkaKraftBroker kafkaBroker,
+                       ConfigurableApplicationContext application) {
+        this.redisServer = redisServer;
+        this.kafkaBroker = kafkaBroker;
+        this.application = application;
+    }
+
+    static LocalStack start() throws IOException {
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        EmbeddedKafkaKraftBroker kafkaBroker = new EmbeddedKafkaKraftBroker(1, 1, KafkaTopics.RESERVATION);
+        kafkaBroker.afterPropertiesSet();
+
+        ConfigurableApplicationContext application = new SpringApplicationBuilder(TicketApplication.class)
+                .profiles("simulation")
+                .properties(
+                        "server.port=0",
+                        "spring.data.redis.host=127.0.0.1",
+                        "spring.data.redis.port=" + redisPort,
+                        "spring.kafka.bootstrap-servers=" + kafkaBroker.getBrokersAsString())
+                .run();
+        return new LocalStack(redisServer, kafkaBroker, application);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+    }
+
+    DataSource dataSource() {
+        return application.getBean(DataSource.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        application.close();
+        kafkaBroker.destroy();
+        redisServer.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.ticket.loadsim;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시뮬레이션용 데이터 생성과 결과 검증 쿼리
+ * 실행마다 새 공연/회차를 만들기 때문에 이미 떠 있는 애플리케이션도 최초 조회 시점에 인벤토리를 적재한다.
+ */
+final class SimulationDatabase {
+
+    private static final long SEAT_PRICE = 100_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SimulationDatabase(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    record Seeded(long concertOptionId, long[] userIds) {
+    }
+
+    /**
+     * 공연 1개, 회차 1개, 좌석 seats개, 결제 가능한 포인트를 가진 유저 users명 생성
+     */
+    Seeded seed(int users, int seats) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        long concertId = insertAndGetId("insert into concert (concert_title) values (?)", "부하 테스트 " + runId);
+        long concertOptionId = insertAndGetId("insert into concert_option (start_time, concert_id) values (?, ?)",
+                Timestamp.valueOf(LocalDateTime.now().plusDays(1)), concertId);
+
+        List<Object[]> seatRows = new ArrayList<>(seats);
+        for (int i = 1; i <= seats; i++) {
+            seatRows.add(new Object[]{"S-" + i, concertOptionId, SEAT_PRICE});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into seat (seat_number, concert_option_id, price, seat_status) values (?, ?, ?, 'AVAILABLE')",
+                seatRows);
+
+        String namePrefix = "loadsim-" + runId + "-";
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            userRows.add(new Object[]{namePrefix + i, SEAT_PRICE * 2});
+        }
+        jdbcTemplate.batchUpdate("insert into users (name, points) values (?, ?)", userRows);
+        long[] userIds = jdbcTemplate.queryForList(
+                        "select user_id from users where name like ? order by user_id", Long.class, namePrefix + "%")
+                .stream().mapToLong(Long::longValue).toArray();
+
+        return new Seeded(concertOptionId, userIds);
+    }
+
+    /**
+     * 결제 대기 중인 예약 ID (예약 저장이 비동기라 아직 없으면 null)
+     */
+    Long findPendingReservationId(long userId) {
+        List<Long> ids = jdbcTemplate.queryForList("""
+                select reservation_id from reservation
+                where user_id = ? and reservation_status = 'NOT_PAID'
+                order by reservation_id desc""", Long.class, userId);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * 유효한 예약(NOT_PAID, PAID)이 2건 이상 걸린 좌석 수 (0이어야 정상)
+     */
+    long countOversoldSeats(long concertOptionId) {
+        Long count = jdbcTemplate.queryForObject("""
+                select count(*) from (
+                    select r.seat_id from reservation r join seat s on s.seat_id = r.seat_id
+                    where s.concert_option_id = ? and r.reservation_status in ('NOT_PAID', 'PAID')
+                    group by r.seat_id having count(*) > 1
+                ) oversold""", Long.class, concertOptionId);
+        return count == null ? 0L : count;
+    }
+
+    long countPaidReservations(long concertOptionId) {
+        Long count = jdbcTemplate.queryForObject("""
+                select count(*) from reservation r join seat s on s.seat_id = r.seat_id
+                where s.concert_option_id = ? and r.reservation_status = 'PAID'""", Long.class, concertOptionId);
+        return count == null ? 0L : count;
+    }
+
+    private long insertAndGetId(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKeyAs(Number.class).longValue();
+    }
+}
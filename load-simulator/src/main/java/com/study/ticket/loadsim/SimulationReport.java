@@ -0,0 +1,97 @@
+package com.study.ticket.loadsim;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실행 결과 집계
+ * [지표]
+ * 1. 엔드포인트별 처리량, p50/p99/p999 응답 시간, 상태 코드 분포.
+ * 2. 초과 판매: DB 기준(유효 예약이 2건 이상인 좌석 수)과 클라이언트 기준(선점 성공 응답이 2번 이상 온 좌석 수). 둘 다 0이어야 한다.
+ * 3. 대기열 공정성: 도착 순서와 입장 순서의 역전 쌍 비율로 계산 (1.0 = 완전한 선착순).
+ */
+final class SimulationReport {
+
+    private SimulationReport() {
+    }
+
+    static Map<String, Object> build(List<UserJourney.Result> results, UserJourney.Context context,
+                                     double elapsedSeconds, Long dbOversoldSeats, Long dbPaid) {
+        Map<UserJourney.Outcome, Integer> outcomes = new EnumMap<>(UserJourney.Outcome.class);
+        results.forEach(result -> outcomes.merge(result.outcome(), 1, Integer::sum));
+
+        long clientOversold = context.heldSeats().values().stream().filter(count -> count.get() > 1).count();
+
+        List<UserJourney.Result> admitted = results.stream()
+                .filter(result -> result.admissionOrder() > 0)
+                .sorted(Comparator.comparingInt(UserJourney.Result::arrivalOrder))
+                .toList();
+        long[] admissionOrders = admitted.stream().mapToLong(UserJourney.Result::admissionOrder).toArray();
+        long inversions = countInversions(admissionOrders);
+        long pairs = (long) admissionOrders.length * (admissionOrders.length - 1) / 2;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", results.size());
+        report.put("elapsedSeconds", Math.round(elapsedSeconds * 100) / 100.0);
+        report.put("journeysPerSec", Math.round(results.size() / elapsedSeconds * 100) / 100.0);
+        report.put("outcomes", outcomes);
+        report.put("oversoldSeats", Map.of(
+                "client", clientOversold,
+                "database", dbOversoldSeats == null ? "skipped (no database)" : dbOversoldSeats));
+        if (dbPaid != null) {
+            report.put("paidReservations", dbPaid);
+        }
+        report.put("queueFairness", Map.of(
+                "admitted", admissionOrders.length,
+                "inversions", inversions,
+                "score", pairs == 0 ? 1.0 : Math.round((1 - inversions / (double) pairs) * 10_000) / 10_000.0));
+        report.put("endpoints", context.recorder().summarize(elapsedSeconds));
+        return report;
+    }
+
+    static boolean oversold(Map<String, Object> report) {
+        Object oversold = report.get("oversoldSeats");
+        if (oversold instanceof Map<?, ?> counts) {
+            return counts.values().stream().anyMatch(count -> count instanceof Long value && value > 0);
+        }
+        return false;
+    }
+
+    /**
+     * 병합 정렬로 역전 쌍 개수 계산 (O(n log n))
+     */
+    private static long countInversions(long[] values) {
+        long[] buffer = new long[values.length];
+        return sortAndCount(values.clone(), buffer, 0, values.length);
+    }
+
+    private static long sortAndCount(long[] values, long[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return 0;
+        }
+        int middle = (from + to) >>> 1;
+        long inversions = sortAndCount(values, buffer, from, middle) + sortAndCount(values, buffer, middle, to);
+        int left = from;
+        int right = middle;
+        int index = from;
+        while (left < middle && right < to) {
+            if (values[left] <= values[right]) {
+                buffer[index++] = values[left++];
+            } else {
+                buffer[index++] = values[right++];
+                inversions += middle - left;
+            }
+        }
+        while (left < middle) {
+            buffer[index++] = values[left++];
+        }
+        while (right < to) {
+            buffer[index++] = values[right++];
+        }
+        System.arraycopy(buffer, from, values, from, to - from);
+        return inversions;
+    }
+}
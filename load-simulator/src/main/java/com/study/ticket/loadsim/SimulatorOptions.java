@@ -0,0 +1,76 @@
+package com.study.ticket.loadsim;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시뮬레이터 실행 옵션 (--key=value 형식)
+ * @param target 'local'이면 같은 JVM에 임베디드 Redis/Kafka + H2로 애플리케이션을 띄움, 아니면 대상 base URL
+ * @param trace 재생할 JSONL 트레이스 (없으면 users/arrival로 생성)
+ * @param saveTrace 생성한 트레이스를 저장할 경로
+ * @param users 생성할 유저 수
+ * @param seats 회차 좌석 수
+ * @param arrival 도착 곡선 (burst | ramp | poisson)
+ * @param arrivalWindowMs 도착이 분포하는 구간 길이
+ * @param seed 트레이스 생성 시드 (같은 시드 = 같은 트레이스)
+ * @param maxAttempts 유저당 좌석 선점 최대 시도 횟수 (트레이스에 값이 없을 때)
+ * @param concertOptionId 원격 대상에서 DB 없이 돌릴 때 사용할 회차 ID
+ * @param jdbcUrl 원격 대상의 DB (좌석/유저 생성, 예약 ID 조회, 초과 판매 검증용)
+ * @param timeoutSeconds 전체 실행 제한 시간
+ * @param report 결과 JSON 저장 경로
+ */
+record SimulatorOptions(
+        String target,
+        Path trace,
+        Path saveTrace,
+        int users,
+        int seats,
+        String arrival,
+        long arrivalWindowMs,
+        long seed,
+        int maxAttempts,
+        Long concertOptionId,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        long timeoutSeconds,
+        Path report
+) {
+
+    static SimulatorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new SimulatorOptions(
+                values.getOrDefault("target", "local"),
+                path(values.get("trace")),
+                path(values.get("save-trace")),
+                Integer.parseInt(values.getOrDefault("users", "2000")),
+                Integer.parseInt(values.getOrDefault("seats", "500")),
+                values.getOrDefault("arrival", "burst"),
+                Long.parseLong(values.getOrDefault("arrival-window-ms", "5000")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("max-attempts", "3")),
+                values.containsKey("concert-option-id") ? Long.valueOf(values.get("concert-option-id")) : null,
+                values.get("jdbc-url"),
+                values.getOrDefault("jdbc-user", "user"),
+                values.getOrDefault("jdbc-password", "user1234"),
+                Long.parseLong(values.getOrDefault("timeout-s", "600")),
+                path(values.getOrDefault("report", "build/load-simulator/report.json")));
+    }
+
+    boolean local() {
+        return "local".equals(target);
+    }
+
+    private static Path path(String value) {
+        return value == null ? null : Path.of(value);
+    }
+}
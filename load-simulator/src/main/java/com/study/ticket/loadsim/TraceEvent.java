@@ -0,0 +1,10 @@
+package com.study.ticket.loadsim;
+
+/**
+ * 트레이스 한 줄 = 유저 한 명의 도착
+ * @param userId 트레이스상 유저 번호 (1부터, 시드 데이터의 유저와 순서대로 매핑)
+ * @param arriveAtMs 시뮬레이션 시작 기준 대기열 진입 시각
+ * @param attempts 좌석 선점 최대 시도 횟수 (0이면 기본값)
+ */
+record TraceEvent(long userId, long arriveAtMs, int attempts) {
+}
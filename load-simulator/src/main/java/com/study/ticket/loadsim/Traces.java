@@ -0,0 +1,80 @@
+package com.study.ticket.loadsim;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * JSONL 트레이스 읽기/쓰기/생성
+ * 한 줄에 하나의 TraceEvent ({"userId":1,"arriveAtMs":0,"attempts":3})
+ */
+final class Traces {
+
+    private Traces() {
+    }
+
+    static List<TraceEvent> read(Path path, ObjectMapper objectMapper) throws IOException {
+        List<TraceEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    events.add(objectMapper.readValue(line, TraceEvent.class));
+                }
+            }
+        }
+        events.sort(Comparator.comparingLong(TraceEvent::arriveAtMs));
+        return events;
+    }
+
+    static void write(Path path, List<TraceEvent> events, ObjectMapper objectMapper) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            for (TraceEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * 도착 곡선에 따라 트레이스 생성
+     * - burst   : 오픈 직후에 몰리는 형태 (구간 앞쪽에 밀집)
+     * - ramp    : 구간 전체에 균등 분포
+     * - poisson : 평균 도착률이 일정한 포아송 과정
+     */
+    static List<TraceEvent> synthesize(int users, String arrival, long windowMs, long seed, int attempts) {
+        Random random = new Random(seed);
+        double rate = users / (double) Math.max(windowMs, 1L);
+        double poissonClock = 0;
+
+        long[] arrivals = new long[users];
+        for (int i = 0; i < users; i++) {
+            double u = random.nextDouble();
+            arrivals[i] = switch (arrival) {
+                case "burst" -> (long) (windowMs * u * u * u);
+                case "ramp" -> (long) (windowMs * u);
+                case "poisson" -> (long) (poissonClock += -Math.log(1 - u) / rate);
+                default -> throw new IllegalArgumentException("알 수 없는 도착 곡선: " + arrival);
+            };
+        }
+        Arrays.sort(arrivals);
+
+        List<TraceEvent> events = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            events.add(new TraceEvent(i + 1, arrivals[i], attempts));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,215 @@
+package com.study.ticket.loadsim;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 유저 한 명의 예매 흐름
+ * 대기열 SSE 구독 -> 입장(enter) -> 좌석 조회 -> 좌석 선점(실패 시 재조회 후 재시도) -> 예약 ID 확인 -> 결제
+ */
+final class UserJourney {
+
+    enum Outcome { PAID, RESERVED, SOLD_OUT, QUEUE_EXPIRED, ERROR }
+
+    record Result(int arrivalOrder, long admissionOrder, Outcome outcome) {
+    }
+
+    /**
+     * 모든 유저가 공유하는 실행 상태
+     * @param database 예약 ID 조회용 (없으면 결제 단계 생략)
+     */
+    record Context(HttpClient httpClient, String baseUrl, long concertOptionId, ObjectMapper objectMapper,
+                   LatencyRecorder recorder, SimulationDatabase database, AtomicLong admissionSequence,
+                   Map<Long, AtomicInteger> heldSeats) {
+
+        Context(HttpClient httpClient, String baseUrl, long concertOptionId, ObjectMapper objectMapper,
+                LatencyRecorder recorder, SimulationDatabase database) {
+            this(httpClient, baseUrl, concertOptionId, objectMapper, recorder, database,
+                    new AtomicLong(), new ConcurrentHashMap<>());
+        }
+    }
+
+    private static final Duration RESERVATION_LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration RATE_LIMITED_BACKOFF = Duration.ofMillis(200);
+    private static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
+    private final Context context;
+    private final int arrivalOrder;
+    private final long userId;
+    private final int attempts;
+    private String admissionToken;
+
+    UserJourney(Context context, int arrivalOrder, long userId, int attempts) {
+        this.context = context;
+        this.arrivalOrder = arrivalOrder;
+        this.userId = userId;
+        this.attempts = attempts;
+    }
+
+    Result run() {
+        try {
+            if (!waitForAdmission()) {
+                return new Result(arrivalOrder, -1, Outcome.QUEUE_EXPIRED);
+            }
+            long admissionOrder = context.admissionSequence().incrementAndGet();
+            return new Result(arrivalOrder, admissionOrder, reserveAndPay());
+        } catch (IOException e) {
+            return new Result(arrivalOrder, -1, Outcome.ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(arrivalOrder, -1, Outcome.ERROR);
+        }
+    }
+
+    /**
+     * SSE 스트림에서 enter/expired 이벤트를 받을 때까지 대기 (enter 이벤트의 입장 토큰 보관)
+     */
+    private boolean waitForAdmission() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/queue/stream/" + context.concertOptionId() + "/" + userId))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        HttpResponse<Stream<String>> response = context.httpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+        context.recorder().record("GET /api/queue/stream", response.statusCode(), System.nanoTime() - startedAt);
+        if (response.statusCode() != 200) {
+            response.body().close();
+            return false;
+        }
+
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                String line = iterator.next();
+                if (!line.startsWith("event:")) {
+                    continue;
+                }
+                String event = line.substring("event:".length()).trim();
+                if ("enter".equals(event)) {
+                    context.recorder().record("(queue wait)", 200, System.nanoTime() - startedAt);
+                    if (iterator.hasNext()) {
+                        readAdmissionToken(iterator.next());
+                    }
+                    return true;
+                }
+                if ("expired".equals(event)) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void readAdmissionToken(String line) throws IOException {
+        if (line.startsWith("data:")) {
+            JsonNode token = context.objectMapper().readTree(line.substring("data:".length())).path("admissionToken");
+            admissionToken = token.isTextual() ? token.asText() : null;
+        }
+    }
+
+    private Outcome reserveAndPay() throws IOException, InterruptedException {
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            List<Long> available = fetchAvailableSeats();
+            if (available.isEmpty()) {
+                return Outcome.SOLD_OUT;
+            }
+            long seatId = available.get(ThreadLocalRandom.current().nextInt(available.size()));
+
+            int status = post("POST /api/ticketing/reservations", "/api/ticketing/reservations",
+                    Map.of("seatId", seatId, "userId", userId));
+            if (status == 200) {
+                context.heldSeats().computeIfAbsent(seatId, id -> new AtomicInteger()).incrementAndGet();
+                return pay();
+            }
+            if (status == 401) {
+                return Outcome.QUEUE_EXPIRED;
+            }
+            if (status == 429) {
+                Thread.sleep(RATE_LIMITED_BACKOFF.toMillis());
+                continue;
+            }
+            if (status != 409) {
+                return Outcome.ERROR;
+            }
+        }
+        return Outcome.SOLD_OUT;
+    }
+
+    private List<Long> fetchAvailableSeats() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/ticketing/concerts/options/" + context.concertOptionId() + "/seats"))
+                .GET()
+                .build();
+        long startedAt = System.nanoTime();
+        HttpResponse<byte[]> response = context.httpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+        context.recorder().record("GET /api/ticketing/concerts/options/{id}/seats", response.statusCode(),
+                System.nanoTime() - startedAt);
+        if (response.statusCode() != 200) {
+            return List.of();
+        }
+
+        List<Long> seatIds = new ArrayList<>();
+        for (JsonNode seat : context.objectMapper().readTree(response.body()).path("seats")) {
+            seatIds.add(seat.path("seatId").asLong());
+        }
+        return seatIds;
+    }
+
+    /**
+     * 예약은 비동기로 저장되므로 예약 ID가 보일 때까지 DB를 확인한 뒤 결제
+     */
+    private Outcome pay() throws IOException, InterruptedException {
+        if (context.database() == null) {
+            return Outcome.RESERVED;
+        }
+        Long reservationId = null;
+        long deadline = System.nanoTime() + RESERVATION_LOOKUP_TIMEOUT.toNanos();
+        while (reservationId == null && System.nanoTime() < deadline) {
+            reservationId = context.database().findPendingReservationId(userId);
+            if (reservationId == null) {
+                Thread.sleep(20);
+            }
+        }
+        if (reservationId == null) {
+            return Outcome.RESERVED;
+        }
+
+        int status = post("POST /api/ticketing/payments", "/api/ticketing/payments",
+                Map.of("userId", userId, "reservationId", reservationId));
+        return status == 200 ? Outcome.PAID : Outcome.RESERVED;
+    }
+
+    private int post(String endpoint, String path, Map<String, Object> body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(context.objectMapper().writeValueAsBytes(body)));
+        if (admissionToken != null) {
+            builder.header(ADMISSION_TOKEN_HEADER, admissionToken);
+        }
+        HttpRequest request = builder.build();
+        long startedAt = System.nanoTime();
+        HttpResponse<Void> response = context.httpClient().send(request, HttpResponse.BodyHandlers.discarding());
+        context.recorder().record(endpoint, response.statusCode(), System.nanoTime() - startedAt);
+        return response.statusCode();
+    }
+
+    private URI uri(String path) {
+        return URI.create(context.baseUrl() + path);
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.ticket.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.Entity.Seat;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.service.QueueProperties;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 공용 데이터 생성
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 스프링 부트 기본 설정과 같은 모듈(JavaTimeModule 등)을 등록한 ObjectMapper
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * seatId 1부터 시작하는 좌석 목록 (엔티티에 생성자가 없어 리플렉션으로 채움)
+     */
+    static List<Seat> seats(long concertOptionId, int count, SeatStatus status) {
+        List<Seat> seats = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Seat seat = BeanUtils.instantiateClass(Seat.class);
+            ReflectionTestUtils.setField(seat, "id", (long) i);
+            ReflectionTestUtils.setField(seat, "seatNumber", "R" + (i / 100 + 1) + "-" + (i % 100 + 1));
+            ReflectionTestUtils.setField(seat, "concertOptionId", concertOptionId);
+            ReflectionTestUtils.setField(seat, "price", 100_000L);
+            ReflectionTestUtils.setField(seat, "status", status);
+            seats.add(seat);
+        }
+        return seats;
+    }
+
+    static QueueProperties queueProperties(int maxActive, int maxAdmitPerTick, int shards, boolean estimateRank) {
+        return new QueueProperties(Duration.ofMinutes(10), Duration.ofMinutes(30), 2,
+                maxActive, maxAdmitPerTick, shards, Map.of(), Duration.ofMinutes(30), estimateRank, 1000, 256);
+    }
+}
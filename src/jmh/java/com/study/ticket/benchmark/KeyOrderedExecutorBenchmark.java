@@ -0,0 +1,66 @@
+package com.study.ticket.benchmark;
+
+import com.study.ticket.common.kafka.KeyOrderedExecutor;
+import com.study.ticket.domain.dto.event.ReservationEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 예약 이벤트 배치 후처리 처리량 (레인 1개 -> N개)
+ * 컨슈머 배치(1000건)를 userId 기준 레인으로 나눠 처리하며, 이벤트당 알림 API 호출을 100µs 대기로 흉내 낸다.
+ * users가 적을수록(핫 유저) 한 레인에 이벤트가 몰려 레인을 늘려도 처리량이 오르지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(KeyOrderedExecutorBenchmark.BATCH_SIZE)
+public class KeyOrderedExecutorBenchmark {
+
+    static final int BATCH_SIZE = 1000;
+    private static final long NOTIFICATION_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int lanes;
+
+    @Param({"1", "50", "1000"})
+    private int users;
+
+    private KeyOrderedExecutor executor;
+    private List<ReservationEvent> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), lanes);
+        LocalDateTime now = LocalDateTime.now();
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new ReservationEvent((long) i, (long) (i % users), (long) i, now));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public void processBatch() {
+        executor.execute(batch, ReservationEvent::userId, event -> LockSupport.parkNanos(NOTIFICATION_NANOS));
+    }
+}
@@ -0,0 +1,86 @@
+package com.study.ticket.benchmark;
+
+import com.study.ticket.common.monitor.TicketMetrics;
+import com.study.ticket.domain.inventory.SeatHoldResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메트릭 기록 비용 (운영에서 켜 둘 수 있는지 확인용)
+ * 예약 요청 하나가 치르는 비용 = nanoTime 2회 + Timer 기록 1회이며, 요청 처리 시간(수백 µs ~ ms) 대비 비율로 판단한다.
+ * - nanoTime: 측정 자체의 기준선
+ * - timer: 히스토그램 없는 Timer
+ * - histogramTimer: Prometheus 히스토그램 버킷을 켠 Timer (운영 설정과 동일)
+ * - reservationMetric: TicketMetrics.recordReservation 경로 그대로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class MetricsOverheadBenchmark {
+
+    private Timer timer;
+    private Timer histogramTimer;
+    private Counter counter;
+    private TicketMetrics ticketMetrics;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("ticket.") || id.getName().equals("bench.histogram")) {
+                    return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+                }
+                return config;
+            }
+        });
+        timer = Timer.builder("bench.timer").register(registry);
+        histogramTimer = Timer.builder("bench.histogram").register(registry);
+        counter = Counter.builder("bench.counter").register(registry);
+        ticketMetrics = new TicketMetrics(registry);
+    }
+
+    @Benchmark
+    public long nanoTime() {
+        return System.nanoTime() - System.nanoTime();
+    }
+
+    @Benchmark
+    public void counter() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public void timer() {
+        long startedAt = System.nanoTime();
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void histogramTimer() {
+        long startedAt = System.nanoTime();
+        histogramTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void reservationMetric() {
+        ticketMetrics.recordReservation(SeatHoldResult.HELD, System.nanoTime());
+    }
+}
@@ -0,0 +1,114 @@
+package com.study.ticket.benchmark;
+
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ErrorResponses;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.common.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 좌석 충돌(409) 거절 경로별 처리량 (초당 거절 수)
+ * - stackTrace: 기존 방식. 스택 트레이스를 채운 예외 -> @ExceptionHandler
+ * - stackless: 스택 트레이스 없는 CustomException -> GlobalExceptionHandler
+ * - result: 예외 없이 결과를 미리 만들어 둔 응답으로 변환 (TicketingController.reserveSeat 경로)
+ * *Exception 벤치마크는 MockMvc 없이 예외 생성 비용만 비교한다.
+ * 기존 핸들러의 요청당 error 로그 비용은 포함하지 않았다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class RejectionPathBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new RejectionController())
+                .setControllerAdvice(new StackTraceExceptionHandler(), new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public int stackTrace() throws Exception {
+        return mockMvc.perform(post("/stack-trace")).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int stackless() throws Exception {
+        return mockMvc.perform(post("/stackless")).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int result() throws Exception {
+        return mockMvc.perform(post("/result")).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public Object createStackTraceException() {
+        return new StackTraceException(ExceptionCode.SEAT_ALREADY_RESERVED);
+    }
+
+    @Benchmark
+    public Object createStacklessException() {
+        return new CustomException(ExceptionCode.SEAT_ALREADY_RESERVED);
+    }
+
+    @RestController
+    static class RejectionController {
+
+        @PostMapping("/stack-trace")
+        public ResponseEntity<String> stackTrace() {
+            throw new StackTraceException(ExceptionCode.SEAT_ALREADY_RESERVED);
+        }
+
+        @PostMapping("/stackless")
+        public ResponseEntity<String> stackless() {
+            throw new CustomException(ExceptionCode.SEAT_ALREADY_RESERVED);
+        }
+
+        @PostMapping("/result")
+        public ResponseEntity<String> result() {
+            return ErrorResponses.of(ExceptionCode.SEAT_ALREADY_RESERVED);
+        }
+    }
+
+    /**
+     * 변경 전 CustomException과 같은 비용의 예외 (스택 트레이스 생성)
+     */
+    static class StackTraceException extends RuntimeException {
+        private final ExceptionCode code;
+
+        StackTraceException(ExceptionCode code) {
+            super(code.getMessage());
+            this.code = code;
+        }
+    }
+
+    @RestControllerAdvice
+    static class StackTraceExceptionHandler {
+
+        @ExceptionHandler(StackTraceException.class)
+        public ResponseEntity<String> handle(StackTraceException e) {
+            return ResponseEntity.status(e.code.getCode()).body(e.getMessage());
+        }
+    }
+}
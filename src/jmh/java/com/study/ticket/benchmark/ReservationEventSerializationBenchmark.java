@@ -0,0 +1,60 @@
+package com.study.ticket.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.common.kafka.codec.EventCodecs;
+import com.study.ticket.domain.dto.event.ReservationEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 이벤트 직렬화/역직렬화 (아웃박스 적재, 컨슈머 수신 경로)
+ * JSON(Jackson)과 바이너리(EventCodecs) 형식을 비교하고, 셋업 시 페이로드 크기를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationEventSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ReservationEvent event;
+    private byte[] payload;
+    private byte[] binaryPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        event = new ReservationEvent(1_234_567L, 7_654_321L, 42_000L, LocalDateTime.now());
+        payload = objectMapper.writeValueAsBytes(event);
+        binaryPayload = EventCodecs.encode(event);
+        System.out.printf("%n[payload size] json=%d bytes, binary=%d bytes%n", payload.length, binaryPayload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public ReservationEvent deserialize() throws IOException {
+        return objectMapper.readValue(payload, ReservationEvent.class);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return EventCodecs.encode(event);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return EventCodecs.decode(binaryPayload);
+    }
+}
@@ -0,0 +1,63 @@
+package com.study.ticket.benchmark;
+
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.inventory.SeatInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 선점 경합 (N 스레드가 M개 좌석을 두고 경쟁)
+ * 선점에 성공하면 바로 해제해 좌석 수를 일정하게 유지하고, 성공/실패 모두 1회로 센다.
+ * 좌석 수가 적을수록 같은 비트셋 워드에 대한 CAS 충돌이 늘어난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class SeatHoldBenchmark {
+
+    @Param({"16", "1024", "50000"})
+    private int seats;
+
+    private SeatInventory inventory;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        inventory = new SeatInventory(1L, BenchmarkFixtures.seats(1L, seats, SeatStatus.AVAILABLE), Map.of(), 0L);
+    }
+
+    @State(Scope.Thread)
+    public static class User {
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+        final long userId = SEQUENCE.incrementAndGet();
+    }
+
+    @Benchmark
+    public void holdAndRelease(User user, Blackhole blackhole) {
+        int slot = ThreadLocalRandom.current().nextInt(seats);
+        boolean held = inventory.tryHold(slot, user.userId);
+        if (held) {
+            inventory.release(slot, user.userId);
+        }
+        blackhole.consume(held);
+    }
+
+    @Benchmark
+    public int availableCount() {
+        return inventory.availableCount();
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.ticket.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.dto.response.SeatListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대형 공연장 좌석 목록 직렬화 (스냅샷 재생성 1회 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatListSerializationBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int seats;
+
+    private ObjectMapper objectMapper;
+    private SeatListResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        response = SeatListResponse.from(BenchmarkFixtures.seats(1L, seats, SeatStatus.AVAILABLE));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,143 @@
+package com.study.ticket.benchmark;
+
+import com.study.ticket.domain.service.QueueProperties;
+import com.study.ticket.domain.service.QueueRankEstimator;
+import com.study.ticket.domain.service.WaitingQueueService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 진입/순번 조회/입장 처리 (임베디드 Redis 대상, 샤드 1개 vs 8개)
+ * 네트워크 왕복이 포함된 값이므로 절대값보다 빌드 간 변화를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WaitingQueueBenchmark {
+
+    private static final long CONCERT_OPTION_ID = 1L;
+    private static final int ADMIT_PER_TICK = 200;
+    private static final int PROMOTES_PER_ITERATION = 50;
+
+    @Param({"10000", "100000"})
+    private int waiting;
+
+    @Param({"1", "8"})
+    private int shards;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedissonClient redissonClient;
+    private StringRedisTemplate redisTemplate;
+    private WaitingQueueService waitingQueueService;
+    private QueueRankEstimator queueRankEstimator;
+    private WaitingQueueService exactQueueService;
+    private final AtomicLong nextUserId = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void startRedis() throws IOException {
+        int port = 6390;
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://127.0.0.1:" + port);
+        redissonClient = Redisson.create(config);
+
+        QueueProperties queueProperties = BenchmarkFixtures.queueProperties(Integer.MAX_VALUE, ADMIT_PER_TICK, shards, true);
+        queueRankEstimator = new QueueRankEstimator(redisTemplate, queueProperties);
+        waitingQueueService = new WaitingQueueService(redisTemplate, redissonClient, queueProperties,
+                new SimpleMeterRegistry(), queueRankEstimator);
+
+        QueueProperties exactProperties = BenchmarkFixtures.queueProperties(Integer.MAX_VALUE, ADMIT_PER_TICK, shards, false);
+        exactQueueService = new WaitingQueueService(redisTemplate, redissonClient, exactProperties,
+                new SimpleMeterRegistry(), new QueueRankEstimator(redisTemplate, exactProperties));
+    }
+
+    /**
+     * 매 측정마다 대기열을 waiting명 + 이번 측정에서 입장시킬 인원으로 다시 채움
+     */
+    @Setup(Level.Iteration)
+    public void fillQueue() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        int total = waiting + ADMIT_PER_TICK * PROMOTES_PER_ITERATION;
+        for (long userId = 1; userId <= total; userId++) {
+            waitingQueueService.registerQueue(CONCERT_OPTION_ID, userId);
+        }
+        nextUserId.set(total);
+        queueRankEstimator.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopRedis() throws IOException {
+        redissonClient.shutdown();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public void register() {
+        waitingQueueService.registerQueue(CONCERT_OPTION_ID, nextUserId.incrementAndGet());
+    }
+
+    /**
+     * 추정 모드: 선두 밖이면 ZSCORE 1회 + 인덱스 보간
+     */
+    @Benchmark
+    public Long rank() {
+        long userId = ThreadLocalRandom.current().nextLong(1, waiting + 1);
+        return waitingQueueService.getRank(CONCERT_OPTION_ID, userId);
+    }
+
+    /**
+     * 샤드가 1개면 ZRANK, 여러 개면 ZSCORE + 샤드별 ZCOUNT (추정 모드를 끈 경우의 비용)
+     */
+    @Benchmark
+    public Long exactRank() {
+        long userId = ThreadLocalRandom.current().nextLong(1, waiting + 1);
+        return exactQueueService.getRank(CONCERT_OPTION_ID, userId);
+    }
+
+    /**
+     * 입장 처리는 대기열을 소모하므로 측정 1회 = promote PROMOTES_PER_ITERATION번
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = PROMOTES_PER_ITERATION)
+    @Measurement(iterations = 20, batchSize = PROMOTES_PER_ITERATION)
+    public int promote() {
+        return waitingQueueService.promoteToActive(CONCERT_OPTION_ID);
+    }
+}
@@ -0,0 +1,13 @@
+package com.study.ticket.common.admission;
+
+/**
+ * 검증된 입장 토큰 내용
+ * @param concertOptionId 입장한 회차
+ * @param userId 입장한 유저
+ * @param expiresAt 토큰 만료 시각 (epoch ms)
+ */
+public record AdmissionClaims(Long concertOptionId, Long userId, long expiresAt) {
+    public boolean isFor(Long userId) {
+        return this.userId.equals(userId);
+    }
+}
@@ -0,0 +1,131 @@
+package com.study.ticket.common.admission;
+
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.domain.service.ActiveSessionStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약/결제 API 앞단 입장 제어 필터 (SecurityConfig 필터 체인에 등록)
+ * [구현 로직]
+ * 1. 응답 시간이 목표를 넘은 상태면 일부 요청을 429 + Retry-After로 거절 (가장 싼 검사부터 수행).
+ * 2. X-Admission-Token 서명/만료 검증 (Redis 호출 없음). 없거나 유효하지 않거나 종료된 세션의 토큰이면 401.
+ *    통과한 토큰의 만료 시각은 ActiveSessionStore에 기록되어 서비스 계층의 세션 확인이 Redis를 거치지 않는다.
+ * 3. 유저 버킷 -> 전역 버킷 순으로 확인하고, 비어 있으면 다음 토큰까지 남은 시간을 Retry-After로 429.
+ * 4. 통과한 요청은 검증된 토큰 내용을 요청 속성으로 넘기고, 처리 시간을 부하 차단 평균에 반영.
+ * 세션 유효 여부의 최종 판단은 기존처럼 서비스 계층이 한다. 이 필터는 대기열을 우회한 요청과 재시도 폭주를 앞에서 걸러낸다.
+ * [메트릭]
+ * admission.rejected{reason}, admission.latency.average
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_HEADER = "X-Admission-Token";
+    public static final String CLAIMS_ATTRIBUTE = AdmissionClaims.class.getName();
+    private static final long MAX_RETRY_AFTER_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    enum Rejection { SHED, INVALID_TOKEN, USER_RATE, GLOBAL_RATE }
+
+    private final AdmissionTokenCodec admissionTokenCodec;
+    private final ActiveSessionStore activeSessionStore;
+    private final AdmissionRateLimiter admissionRateLimiter;
+    private final LoadShedder loadShedder;
+    private final Set<String> guardedPaths;
+    private final long shedRetryAfterSeconds;
+    private final Map<Rejection, Counter> rejectedCounters = new EnumMap<>(Rejection.class);
+
+    public AdmissionControlFilter(AdmissionProperties properties,
+                                  AdmissionTokenCodec admissionTokenCodec,
+                                  ActiveSessionStore activeSessionStore,
+                                  AdmissionRateLimiter admissionRateLimiter,
+                                  LoadShedder loadShedder,
+                                  MeterRegistry meterRegistry) {
+        this.admissionTokenCodec = admissionTokenCodec;
+        this.activeSessionStore = activeSessionStore;
+        this.admissionRateLimiter = admissionRateLimiter;
+        this.loadShedder = loadShedder;
+        this.guardedPaths = Set.copyOf(properties.paths());
+        this.shedRetryAfterSeconds = Math.max(1, properties.shedRetryAfter().toSeconds());
+        for (Rejection rejection : Rejection.values()) {
+            rejectedCounters.put(rejection, Counter.builder("admission.rejected")
+                    .description("입장 제어 필터에서 거절된 요청 수")
+                    .tag("reason", rejection.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("admission.latency.average", loadShedder, LoadShedder::averageNanos)
+                .description("가드 경로 응답 시간 지수 이동 평균")
+                .baseUnit("nanoseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !guardedPaths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (loadShedder.shouldShed()) {
+            reject(response, Rejection.SHED, ExceptionCode.TOO_MANY_REQUESTS, shedRetryAfterSeconds);
+            return;
+        }
+
+        AdmissionClaims claims = admissionTokenCodec.verify(request.getHeader(TOKEN_HEADER));
+        if (claims == null || !activeSessionStore.remember(claims)) {
+            reject(response, Rejection.INVALID_TOKEN, ExceptionCode.QUEUE_SESSION_EXPIRED, 0L);
+            return;
+        }
+
+        long waitNanos = admissionRateLimiter.tryAcquireUser(claims.userId());
+        if (waitNanos > 0L) {
+            reject(response, Rejection.USER_RATE, ExceptionCode.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos));
+            return;
+        }
+        waitNanos = admissionRateLimiter.tryAcquireGlobal(claims.userId());
+        if (waitNanos > 0L) {
+            reject(response, Rejection.GLOBAL_RATE, ExceptionCode.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos));
+            return;
+        }
+
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadShedder.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    private void reject(HttpServletResponse response, Rejection rejection, ExceptionCode code, long retryAfterSeconds)
+            throws IOException {
+        rejectedCounters.get(rejection).increment();
+        response.setStatus(code.getCode().value());
+        if (retryAfterSeconds > 0L) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        }
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(code.getMessage());
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        long capped = Math.min(waitNanos, MAX_RETRY_AFTER_NANOS);
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(capped + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
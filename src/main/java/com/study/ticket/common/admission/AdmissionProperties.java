@@ -0,0 +1,37 @@
+package com.study.ticket.common.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 예약/결제 API 입장 제어 설정
+ * @param enabled 입장 제어 필터 사용 여부
+ * @param secret 입장 토큰 서명 키 (모든 노드가 같은 값을 사용해야 함, 32바이트 이상, 기본값 없음)
+ * @param paths 입장 토큰과 유량 제어를 적용할 POST 경로
+ * @param userRate 유저별 초당 허용 요청 수
+ * @param userBurst 유저별 순간 허용 요청 수 (버킷 크기)
+ * @param globalRate 클러스터 전체 초당 허용 요청 수 (노드 수로 나눠 적용)
+ * @param globalBurst 클러스터 전체 순간 허용 요청 수
+ * @param stripes 전역 버킷을 나눌 개수 (락 경합 분산)
+ * @param latencySlo 가드 경로 응답 시간 목표 (지수 이동 평균이 넘으면 초과 비율만큼 요청을 거절)
+ * @param maxShedRatio 과부하 시 최대 거절 비율
+ * @param shedRetryAfter 과부하로 거절할 때 알려줄 재시도 대기 시간
+ */
+@ConfigurationProperties("ticket.admission")
+public record AdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        String secret,
+        @DefaultValue({"/api/ticketing/reservations", "/api/ticketing/reservations/group", "/api/ticketing/payments"}) List<String> paths,
+        @DefaultValue("5") double userRate,
+        @DefaultValue("10") int userBurst,
+        @DefaultValue("2000") double globalRate,
+        @DefaultValue("4000") int globalBurst,
+        @DefaultValue("16") int stripes,
+        @DefaultValue("300ms") Duration latencySlo,
+        @DefaultValue("0.9") double maxShedRatio,
+        @DefaultValue("1s") Duration shedRetryAfter
+) {
+}
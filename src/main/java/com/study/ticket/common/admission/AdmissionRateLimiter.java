@@ -0,0 +1,115 @@
+package com.study.ticket.common.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.ticket.common.redis.RedisKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 유저별/전역 토큰 버킷 유량 제어 (요청 경로에서는 Redis를 호출하지 않음)
+ * [구현 로직]
+ * 1. 유저 버킷: userId별 버킷을 Caffeine에 보관 (일정 시간 요청이 없으면 제거).
+ * 2. 전역 버킷: stripes개로 나눠 userId 해시로 고르고, 비어 있으면 옆 버킷을 한 번 더 시도 (단일 락 경합 방지).
+ * 3. Redis 동기화: 주기마다 노드 하트비트를 ZSET에 기록하고 살아 있는 노드 수를 읽어
+ *    전역 허용량을 노드 수로 나눠 적용 (노드가 늘거나 줄어도 클러스터 전체 허용량 유지).
+ */
+@Slf4j
+@Component
+public class AdmissionRateLimiter {
+
+    private static final Duration USER_BUCKET_IDLE = Duration.ofMinutes(1);
+    private static final int NODE_EXPIRY_INTERVALS = 3;
+
+    private final AdmissionProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long syncIntervalMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<Long, TokenBucket> userBuckets;
+    private final TokenBucket[] globalBuckets;
+    private volatile int nodes = 1;
+
+    public AdmissionRateLimiter(AdmissionProperties properties,
+                                StringRedisTemplate stringRedisTemplate,
+                                @Value("${ticket.admission.sync-interval-ms:1000}") long syncIntervalMillis) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.userBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(USER_BUCKET_IDLE)
+                .build();
+
+        int stripes = Math.max(1, properties.stripes());
+        long now = System.nanoTime();
+        this.globalBuckets = new TokenBucket[stripes];
+        for (int i = 0; i < stripes; i++) {
+            globalBuckets[i] = new TokenBucket(properties.globalRate() / stripes,
+                    Math.max(1d, (double) properties.globalBurst() / stripes), now);
+        }
+    }
+
+    /**
+     * 유저 버킷 확인
+     * @return 0이면 허용, 아니면 재시도까지 남은 시간(ns)
+     */
+    public long tryAcquireUser(Long userId) {
+        long now = System.nanoTime();
+        TokenBucket bucket = userBuckets.get(userId, id -> new TokenBucket(properties.userRate(), properties.userBurst(), now));
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * 전역 버킷 확인
+     * @return 0이면 허용, 아니면 재시도까지 남은 시간(ns)
+     */
+    public long tryAcquireGlobal(Long userId) {
+        long now = System.nanoTime();
+        int stripe = Math.floorMod(Long.hashCode(userId), globalBuckets.length);
+        long waitNanos = globalBuckets[stripe].tryAcquire(now);
+        if (waitNanos == 0L || globalBuckets.length == 1) {
+            return waitNanos;
+        }
+        long neighbourWait = globalBuckets[(stripe + 1) % globalBuckets.length].tryAcquire(now);
+        return Math.min(waitNanos, neighbourWait);
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.admission.sync-interval-ms:1000}")
+    public void syncNodes() {
+        long now = System.currentTimeMillis();
+        byte[] key = RedisKeys.admissionNodes().getBytes(StandardCharsets.UTF_8);
+        List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zAdd(key, now, nodeId.getBytes(StandardCharsets.UTF_8));
+                connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY,
+                        now - syncIntervalMillis * NODE_EXPIRY_INTERVALS);
+                connection.zSetCommands().zCard(key);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("입장 제어 노드 동기화 실패 (직전 노드 수 {} 유지)", nodes, e);
+            return;
+        }
+
+        int current = Math.max(1, ((Number) results.get(2)).intValue());
+        if (current != nodes) {
+            nodes = current;
+            long nanos = System.nanoTime();
+            double stripeRate = properties.globalRate() / current / globalBuckets.length;
+            for (TokenBucket bucket : globalBuckets) {
+                bucket.updateRate(stripeRate, nanos);
+            }
+            log.info("입장 제어 전역 허용량 조정: 노드 {}개, 노드당 초당 {}건", current, properties.globalRate() / current);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.ticket.common.admission;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 활성 세션 입장 토큰 발급/검증
+ * 형식: "{concertOptionId}.{userId}.{expiresAt}.{HMAC-SHA256 서명(base64url)}"
+ * 서명만 확인하므로 검증에 Redis 왕복이 없다. (만료 = 활성 세션 키의 만료 시각, 연장 시 재발급)
+ * 서명 키가 없거나 짧으면 애플리케이션이 뜨지 않는다. (노드마다 다른 임시 키나 공개된 기본 키로 발급하지 않도록)
+ */
+@Component
+public class AdmissionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final Mac prototype;
+
+    public AdmissionTokenCodec(AdmissionProperties admissionProperties) {
+        this.prototype = createMac(secretOf(admissionProperties));
+    }
+
+    /**
+     * 활성 세션이 끝나는 시각까지 유효한 토큰 발급
+     * (토큰을 다시 받아도 세션보다 오래 유효하지 않도록 세션 만료 시각을 그대로 사용)
+     * @param expiresAt 활성 세션 만료 시각 (epoch ms)
+     */
+    public String issue(Long concertOptionId, Long userId, long expiresAt) {
+        String payload = concertOptionId + "." + userId + "." + expiresAt;
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 서명과 만료 시각 검증
+     * @return 유효하지 않으면 null
+     */
+    public AdmissionClaims verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int signatureAt = token.lastIndexOf('.');
+        if (signatureAt <= 0) {
+            return null;
+        }
+        String payload = token.substring(0, signatureAt);
+        String[] parts = payload.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureAt + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+            AdmissionClaims claims = new AdmissionClaims(Long.valueOf(parts[0]), Long.valueOf(parts[1]), Long.parseLong(parts[2]));
+            return claims.expiresAt() > System.currentTimeMillis() ? claims : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] secretOf(AdmissionProperties properties) {
+        if (properties.secret() == null || properties.secret().isBlank()) {
+            throw new IllegalStateException("ticket.admission.secret 미설정: 모든 노드에 같은 서명 키를 TICKET_ADMISSION_SECRET으로 주입하세요.");
+        }
+        byte[] secret = properties.secret().getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("ticket.admission.secret은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        return secret;
+    }
+
+    private static Mac createMac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
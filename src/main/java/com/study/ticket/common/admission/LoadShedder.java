@@ -0,0 +1,46 @@
+package com.study.ticket.common.admission;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 응답 시간 목표(SLO) 기반 부하 차단
+ * 가드 경로 응답 시간의 지수 이동 평균이 목표를 넘으면, 초과한 비율만큼(최대 maxShedRatio) 요청을 무작위로 거절한다.
+ * 일부 요청은 계속 통과시켜 평균이 회복되는 것을 관찰할 수 있게 한다.
+ */
+@Component
+public class LoadShedder {
+
+    private static final double ALPHA = 0.1;
+
+    private final long sloNanos;
+    private final double maxShedRatio;
+    private volatile double averageNanos;
+
+    public LoadShedder(AdmissionProperties properties) {
+        this.sloNanos = properties.latencySlo().toNanos();
+        this.maxShedRatio = properties.maxShedRatio();
+    }
+
+    /**
+     * 통과한 요청의 응답 시간 반영 (동시 갱신으로 일부 표본이 유실돼도 평균에는 영향이 작음)
+     */
+    public void record(long elapsedNanos) {
+        double current = averageNanos;
+        averageNanos = current == 0d ? elapsedNanos : current + ALPHA * (elapsedNanos - current);
+    }
+
+    public boolean shouldShed() {
+        double average = averageNanos;
+        if (average <= sloNanos) {
+            return false;
+        }
+        double ratio = Math.min(maxShedRatio, (average - sloNanos) / sloNanos);
+        return ThreadLocalRandom.current().nextDouble() < ratio;
+    }
+
+    public long averageNanos() {
+        return (long) averageNanos;
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.ticket.common.admission;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 토큰 버킷 (요청 시점에 경과 시간만큼 채우는 방식, 별도 타이머 없음)
+ * 가상 스레드를 캐리어에 고정하지 않도록 synchronized 대신 ReentrantLock 사용.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double capacity;
+    private double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, double capacity, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 0이면 허용, 아니면 다음 토큰이 채워질 때까지 남은 시간(ns)
+     */
+    long tryAcquire(long now) {
+        lock.lock();
+        try {
+            refill(now);
+            if (tokens >= 1d) {
+                tokens -= 1d;
+                return 0L;
+            }
+            return tokensPerNano > 0 ? (long) Math.ceil((1d - tokens) / tokensPerNano) : Long.MAX_VALUE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void updateRate(double ratePerSecond, long now) {
+        lock.lock();
+        try {
+            refill(now);
+            tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.study.ticket.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.ticket.common.redis.RedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 공연/회차 카탈로그 응답용 2단계 캐시 (로컬 Caffeine -> Redis -> DB)
+ * [구현 로직]
+ * 1. 응답 객체를 JSON 바이트로 미리 직렬화해 저장하므로 캐시 적중 시 Jackson을 거치지 않음.
+ * 2. 같은 키의 동시 로딩은 Caffeine이 하나로 합쳐 DB/Redis 요청 폭주를 막음.
+ * 3. 변경 시 Redis 키 삭제 후 pub/sub으로 모든 노드의 로컬 캐시를 무효화.
+ * 4. 로컬 적중률은 cache.* (name=catalog), Redis 적중/미스는 catalog.cache.remote, 로딩 시간은 catalog.cache.load.
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+
+    private final RedisTemplate<String, byte[]> bytesRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration remoteTtl;
+
+    private final Cache<String, byte[]> localCache;
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+    private final Timer loadTimer;
+
+    public CatalogCache(RedisTemplate<String, byte[]> bytesRedisTemplate,
+                        StringRedisTemplate stringRedisTemplate,
+                        RedisMessageListenerContainer redisMessageListenerContainer,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${ticket.catalog.local-ttl:1m}") Duration localTtl,
+                        @Value("${ticket.catalog.remote-ttl:10m}") Duration remoteTtl,
+                        @Value("${ticket.catalog.max-size:10000}") long maxSize) {
+        this.bytesRedisTemplate = bytesRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.remoteTtl = remoteTtl;
+
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "catalog");
+
+        this.remoteHitCounter = Counter.builder("catalog.cache.remote").tag("result", "hit").register(meterRegistry);
+        this.remoteMissCounter = Counter.builder("catalog.cache.remote").tag("result", "miss").register(meterRegistry);
+        this.loadTimer = Timer.builder("catalog.cache.load")
+                .description("캐시 미스 시 DB 조회 + 직렬화에 걸린 시간")
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RedisKeys.catalogInvalidationChannel()));
+    }
+
+    /**
+     * 캐시된 JSON 바이트 조회 (없으면 loader 결과를 직렬화하여 저장)
+     */
+    public byte[] get(String key, Supplier<?> loader) {
+        return localCache.get(key, k -> loadRemote(k, loader));
+    }
+
+    /**
+     * 모든 노드에서 해당 키의 캐시를 무효화
+     */
+    public void evict(String key) {
+        bytesRedisTemplate.delete(key);
+        stringRedisTemplate.convertAndSend(RedisKeys.catalogInvalidationChannel(), key);
+    }
+
+    private byte[] loadRemote(String key, Supplier<?> loader) {
+        byte[] cached = bytesRedisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            remoteHitCounter.increment();
+            return cached;
+        }
+        remoteMissCounter.increment();
+
+        byte[] loaded = loadTimer.record(() -> serialize(loader.get()));
+        bytesRedisTemplate.opsForValue().set(key, loaded, remoteTtl);
+        return loaded;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.ticket.common.cache;
+
+import com.study.ticket.common.redis.RedisKeys;
+import com.study.ticket.domain.Entity.Concert;
+import com.study.ticket.domain.Entity.ConcertOption;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Concert/ConcertOption 변경 시 카탈로그 캐시를 무효화하는 JPA 엔티티 리스너
+ * 트랜잭션 안에서 변경되면 커밋 이후에 무효화하여, 커밋 전 데이터가 다시 캐시되지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEntityListener {
+
+    private final ObjectProvider<CatalogCache> catalogCacheProvider;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Concert) {
+            evictAfterCommit(RedisKeys.concertCatalog());
+        } else if (entity instanceof ConcertOption concertOption) {
+            evictAfterCommit(RedisKeys.concertOptionCatalog(concertOption.getConcertId()));
+        }
+    }
+
+    private void evictAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            catalogCacheProvider.getObject().evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                catalogCacheProvider.getObject().evict(key);
+            }
+        });
+    }
+}
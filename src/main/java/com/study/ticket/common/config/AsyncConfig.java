@@ -0,0 +1,33 @@
+package com.study.ticket.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String RESERVATION_WRITE_EXECUTOR = "reservationWriteExecutor";
+
+    /**
+     * 예약 DB 반영용 스레드 풀
+     * 커넥션 풀(hikari.maximum-pool-size)보다 작게 잡아 조회 요청이 커넥션을 얻을 여지를 남김.
+     * 큐가 가득 차면 호출 스레드가 직접 처리하여 자연스럽게 유입 속도를 늦춤.
+     */
+    @Bean(name = RESERVATION_WRITE_EXECUTOR)
+    public Executor reservationWriteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.setMaxPoolSize(6);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("reservation-write-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.study.ticket.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 커넥션 풀 분리
+ * [동작 방식]
+ * 1. writer: spring.datasource 설정 그대로의 기본 풀.
+ * 2. reader: ticket.datasource.reader 설정의 별도 풀 (레플리카가 없으면 같은 DB에 접속해 풀만 분리).
+ * 3. LazyConnectionDataSourceProxy가 실제 쿼리 시점까지 커넥션 획득을 미루고,
+ *    readOnly 트랜잭션(@Transactional(readOnly = true))이면 reader 풀, 그 외에는 writer 풀에서 커넥션을 꺼냄.
+ * 조회 API가 늘어나도 예약/결제 쓰기 경로의 커넥션 대기 시간에 영향을 주지 않도록 하기 위함.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writerDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("writer");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("ticket.datasource.reader.hikari")
+    public HikariDataSource readerDataSource(DataSourceProperties properties, ReaderDataSourceProperties reader) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(reader.url() != null ? reader.url() : properties.determineUrl())
+                .username(reader.username() != null ? reader.username() : properties.determineUsername())
+                .password(reader.password() != null ? reader.password() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("reader");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writerDataSource") DataSource writerDataSource,
+                                 @Qualifier("readerDataSource") DataSource readerDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writerDataSource);
+        dataSource.setReadOnlyDataSource(readerDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.ticket.common.config;
+
+import com.study.ticket.common.kafka.KafkaTopics;
+import com.study.ticket.common.kafka.KeyOrderedExecutor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class KafkaConfig {
+
+    /**
+     * 예약 이벤트 토픽
+     * 기동 시 KafkaAdmin이 생성하고, 이미 있는 토픽의 파티션 수가 더 적으면 늘린다.
+     * 파티션을 늘리면 키(userId)와 파티션의 매핑이 바뀌므로 아웃박스/컨슈머 지연이 없을 때 변경해야 한다.
+     */
+    @Bean
+    public NewTopic reservationTopic(@Value("${ticket.kafka.reservation-partitions:6}") int partitions,
+                                     @Value("${ticket.kafka.replicas:1}") int replicas) {
+        return TopicBuilder.name(KafkaTopics.RESERVATION)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    /**
+     * 예약 이벤트 후처리 실행기
+     * 알림 발송처럼 I/O 대기가 긴 작업이라 가상 스레드에서 실행하고, 동시 실행 수는 레인 수로 제한한다.
+     */
+    @Bean
+    public KeyOrderedExecutor reservationEventExecutor(@Value("${ticket.kafka.handler-lanes:8}") int lanes) {
+        return new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), lanes);
+    }
+
+    /**
+     * 리스너 예외 처리
+     * 배치 전체를 커밋하지 않고 retry-interval 간격으로 retry-attempts 번 다시 처리한다. (대기 중에는 컨슈머를 멈추고 poll을 이어가 그룹에서 빠지지 않음)
+     * 다른 컨슈머가 처리 중인 이벤트도 이 경로로 재시도하므로, 재시도 기간(간격 x 횟수)이 처리 중 표시 TTL보다 짧으면 기동하지 않는다.
+     */
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler(@Value("${ticket.kafka.retry-interval:5s}") Duration retryInterval,
+                                                @Value("${ticket.kafka.retry-attempts:12}") long retryAttempts,
+                                                @Value("${ticket.kafka.idempotency-claim-ttl:30s}") Duration claimTtl) {
+        if (retryInterval.multipliedBy(retryAttempts).compareTo(claimTtl) <= 0) {
+            throw new IllegalStateException("ticket.kafka.retry-interval x retry-attempts는 idempotency-claim-ttl보다 길어야 합니다.");
+        }
+        return new DefaultErrorHandler(new FixedBackOff(retryInterval.toMillis(), retryAttempts));
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.ticket.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 커넥션 풀 접속 정보 (지정하지 않은 값은 spring.datasource 값 사용)
+ * @param url 레플리카 JDBC URL
+ * @param username 레플리카 계정
+ * @param password 레플리카 비밀번호
+ */
+@ConfigurationProperties("ticket.datasource.reader")
+public record ReaderDataSourceProperties(
+        String url,
+        String username,
+        String password
+) {
+}
@@ -1,23 +1,44 @@
 package com.study.ticket.common.config;
 
+import com.study.ticket.common.admission.AdmissionControlFilter;
+import com.study.ticket.common.admission.AdmissionProperties;
+import com.study.ticket.common.admission.AdmissionRateLimiter;
+import com.study.ticket.common.admission.AdmissionTokenCodec;
+import com.study.ticket.common.admission.LoadShedder;
+import com.study.ticket.domain.service.ActiveSessionStore;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * 입장 제어 필터는 빈으로 등록하지 않고 보안 필터 체인에만 추가 (서블릿 필터 자동 등록으로 두 번 실행되지 않도록)
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           AdmissionProperties admissionProperties,
+                                           AdmissionTokenCodec admissionTokenCodec,
+                                           ActiveSessionStore activeSessionStore,
+                                           AdmissionRateLimiter admissionRateLimiter,
+                                           LoadShedder loadShedder,
+                                           MeterRegistry meterRegistry) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .anyRequest().permitAll()
                 );
+        if (admissionProperties.enabled()) {
+            http.addFilterBefore(new AdmissionControlFilter(admissionProperties, admissionTokenCodec,
+                    activeSessionStore, admissionRateLimiter, loadShedder, meterRegistry), AuthorizationFilter.class);
+        }
         return http.build();
     }
 }
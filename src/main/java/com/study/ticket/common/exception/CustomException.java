@@ -2,6 +2,12 @@ package com.study.ticket.common.exception;
 
 import lombok.Getter;
 
+/**
+ * 예상된 비즈니스 실패
+ * 4xx 거절은 응답이 ExceptionCode만으로 만들어지고 스택 트레이스는 사용하지 않으므로 생성하지 않는다.
+ * (티켓 오픈 직후에는 대부분의 요청이 실패로 끝나므로 fillInStackTrace 비용이 그대로 낭비가 됨)
+ * 5xx는 장애 분석에 필요하므로 스택 트레이스를 남기고, 인프라 실패를 감쌀 때는 원인(cause)을 함께 넘긴다.
+ */
 @Getter
 public class CustomException extends RuntimeException {
 
@@ -9,12 +15,24 @@ public class CustomException extends RuntimeException {
     private final String message;
 
     public CustomException(ExceptionCode code) {
-        this.code = code;
-        this.message = code.getMessage();
+        this(code, code.getMessage(), null);
     }
 
     public CustomException(ExceptionCode code, Object... args) {
+        this(code, String.format(code.getMessage(), args), null);
+    }
+
+    public CustomException(ExceptionCode code, Throwable cause) {
+        this(code, code.getMessage(), cause);
+    }
+
+    private CustomException(ExceptionCode code, String message, Throwable cause) {
+        super(message, cause, isServerError(code), isServerError(code));
         this.code = code;
-        this.message = String.format(code.getMessage(), args);
+        this.message = message;
+    }
+
+    private static boolean isServerError(ExceptionCode code) {
+        return code.getCode().is5xxServerError();
     }
 }
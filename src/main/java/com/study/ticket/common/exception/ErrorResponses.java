@@ -0,0 +1,28 @@
+package com.study.ticket.common.exception;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ExceptionCode별로 미리 만들어 둔 에러 응답
+ * 예외 없이 실패를 반환하는 경로(결과 객체 -> 응답)와 GlobalExceptionHandler가 같은 응답을 공유한다.
+ */
+public final class ErrorResponses {
+
+    private static final Map<ExceptionCode, ResponseEntity<String>> RESPONSES = new EnumMap<>(ExceptionCode.class);
+
+    static {
+        for (ExceptionCode code : ExceptionCode.values()) {
+            RESPONSES.put(code, ResponseEntity.status(code.getCode()).body(code.getMessage()));
+        }
+    }
+
+    private ErrorResponses() {
+    }
+
+    public static ResponseEntity<String> of(ExceptionCode code) {
+        return RESPONSES.get(code);
+    }
+}
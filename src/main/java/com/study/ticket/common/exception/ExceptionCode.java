@@ -15,11 +15,22 @@ public enum ExceptionCode {
     ALREADY_IN_QUEUE(HttpStatus.BAD_REQUEST, "이미 다른 공연의 대기열에 진입해 있습니다."),
     QUEUE_SESSION_EXPIRED(HttpStatus.UNAUTHORIZED, "대기열 세션이 만료되었습니다. 다시 시도해주세요."),
     SESSION_EXTENSION_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "세션 연장 횟수를 초과했습니다."),
+    SESSION_EXTENSION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "세션 연장 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     CONCERT_NOT_FOUND(HttpStatus.NOT_FOUND, "콘서트를 찾을 수 없습니다."),
+    CONCERT_OPTION_NOT_FOUND(HttpStatus.NOT_FOUND, "공연 회차를 찾을 수 없습니다."),
 
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "좌석을 찾을 수 없습니다."),
     SEAT_ALREADY_RESERVED(HttpStatus.CONFLICT, "이미 예약된 좌석입니다."),
+    SEAT_PRICE_NOT_SET(HttpStatus.CONFLICT, "가격이 정해지지 않은 좌석입니다."),
+    ILLEGAL_SEAT_GROUP(HttpStatus.BAD_REQUEST, "한 번에 예약할 좌석 목록이 올바르지 않습니다."),
+    ADJACENT_SEATS_NOT_FOUND(HttpStatus.CONFLICT, "요청한 수만큼 이어진 빈 좌석이 없습니다."),
+    SEATS_ALREADY_PROVISIONED(HttpStatus.CONFLICT, "이미 좌석이 생성된 회차입니다."),
+    ILLEGAL_SEAT_LAYOUT(HttpStatus.BAD_REQUEST, "좌석 배치가 올바르지 않습니다."),
+
+    RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다."),
+    RESERVATION_EXPIRED(HttpStatus.CONFLICT, "결제 기한이 지나 취소된 예약입니다."),
     ;
 
     private final HttpStatus code;
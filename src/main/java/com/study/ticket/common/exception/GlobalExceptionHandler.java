@@ -10,10 +10,21 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    /**
+     * 4xx는 정상적인 거절이므로 debug로만 남긴다 (오픈 직후 거절 폭주 시 로그 I/O 방지)
+     * 5xx는 스택 트레이스와 원인을 함께 error로 남긴다.
+     */
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<String> handleException(CustomException e){
-        log.error("{} : {}", e.getCode().toString(), e.getMessage());
+        if (e.getCode().getCode().is5xxServerError()) {
+            log.error("{} : {}", e.getCode().toString(), e.getMessage(), e);
+        } else {
+            log.debug("{} : {}", e.getCode().toString(), e.getMessage());
+        }
 
+        if (e.getMessage().equals(e.getCode().getMessage())) {
+            return ErrorResponses.of(e.getCode());
+        }
         return ResponseEntity
                 .status(e.getCode().getCode())
                 .body(e.getMessage());
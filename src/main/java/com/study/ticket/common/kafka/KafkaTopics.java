@@ -0,0 +1,21 @@
+package com.study.ticket.common.kafka;
+
+/**
+ * Kafka 토픽 이름과 메시지 키 정책 모음
+ */
+public final class KafkaTopics {
+
+    public static final String RESERVATION = "reservation-topic";
+
+    private KafkaTopics() {
+    }
+
+    /**
+     * 예약 이벤트 메시지 키
+     * 같은 유저의 이벤트는 같은 파티션에 들어가 발생 순서대로 처리된다.
+     * 회차 ID를 키로 쓰면 인기 회차 하나가 파티션 하나에 몰리므로 유저 ID로 분산한다.
+     */
+    public static String reservationKey(Long userId) {
+        return String.valueOf(userId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.ticket.common.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 같은 키의 작업은 순서대로, 다른 키의 작업은 동시에 처리하는 실행기
+ * [구현 로직]
+ * 1. 키의 해시로 레인(lane)을 정해 작업을 나눈다. 같은 키는 항상 같은 레인에 들어가 입력 순서가 유지된다.
+ * 2. 레인마다 작업 하나로 실행기에 제출하고, 모든 레인이 끝날 때까지 호출 스레드가 기다린다.
+ *    (컨슈머가 다음 poll/커밋으로 넘어가기 전에 배치 처리가 끝나야 하므로)
+ * 3. 레인이 하나뿐이면 실행기를 거치지 않고 호출 스레드에서 처리한다.
+ * 4. 예외가 난 레인은 남은 작업을 건너뛰고, 모든 레인이 끝난 뒤 첫 예외를 호출 스레드로 던진다.
+ */
+public class KeyOrderedExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final int lanes;
+
+    public KeyOrderedExecutor(ExecutorService executor, int lanes) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("lanes must be positive: " + lanes);
+        }
+        this.executor = executor;
+        this.lanes = lanes;
+    }
+
+    public <T> void execute(List<T> items, Function<? super T, ?> keyOf, Consumer<? super T> handler) {
+        int laneCount = Math.min(lanes, items.size());
+        if (laneCount <= 1) {
+            items.forEach(handler);
+            return;
+        }
+
+        List<List<T>> partitioned = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            partitioned.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            partitioned.get(laneOf(keyOf.apply(item), laneCount)).add(item);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(laneCount);
+        for (List<T> lane : partitioned) {
+            if (!lane.isEmpty()) {
+                futures.add(CompletableFuture.runAsync(() -> lane.forEach(handler), executor));
+            }
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int lanes() {
+        return lanes;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private static int laneOf(Object key, int laneCount) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), laneCount);
+    }
+}
@@ -0,0 +1,50 @@
+package com.study.ticket.common.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.common.kafka.codec.EventCodecs;
+import com.study.ticket.domain.Entity.OutboxEvent;
+import com.study.ticket.domain.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이벤트를 직렬화하여 아웃박스 테이블에 적재하는 컴포넌트
+ * 반드시 비즈니스 데이터를 저장하는 트랜잭션 안에서 호출해야 한다.
+ * 'ticket.kafka.event-format'이 binary이고 바이너리 코덱이 있는 이벤트는 EventCodecs 형식으로, 나머지는 JSON으로 저장한다.
+ */
+@Component
+public class OutboxAppender {
+
+    private static final String BINARY_FORMAT = "binary";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean binaryFormat;
+
+    public OutboxAppender(OutboxEventRepository outboxEventRepository,
+                          ObjectMapper objectMapper,
+                          @Value("${ticket.kafka.event-format:json}") String eventFormat) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.binaryFormat = BINARY_FORMAT.equalsIgnoreCase(eventFormat);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, String key, Object event) {
+        outboxEventRepository.save(OutboxEvent.create(topic, key, event.getClass().getName(), serialize(event)));
+    }
+
+    private byte[] serialize(Object event) {
+        if (binaryFormat && EventCodecs.supports(event.getClass())) {
+            return EventCodecs.encode(event);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트 직렬화 실패: " + event.getClass().getName(), e);
+        }
+    }
+}
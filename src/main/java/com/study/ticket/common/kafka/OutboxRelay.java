@@ -0,0 +1,182 @@
+package com.study.ticket.common.kafka;
+
+import com.study.ticket.domain.Entity.OutboxEvent;
+import com.study.ticket.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 테이블을 배치 단위로 읽어 Kafka로 전송하는 릴레이
+ * [구현 로직]
+ * 1. Redisson 락으로 클러스터 내 단일 릴레이만 동작 (전송 순서 보장).
+ * 2. id 순으로 최대 batch-size 건을 읽어 한 번에 send 후 flush (linger/compression은 producer 설정).
+ * 3. 앞에서부터 연속으로 전송 성공한 건만 삭제. 실패 이후 건은 다음 주기에 재전송하여
+ *    같은 key(userId)의 순서가 뒤바뀌지 않도록 함 (중복은 컨슈머 멱등 처리로 흡수).
+ * 4. outbox.lag: 가장 오래된 미전송 이벤트의 경과 시간(초).
+ * [커밋 순서]
+ * IDENTITY id는 커밋이 아니라 INSERT 시점에 배정되므로, 작은 id의 트랜잭션이 큰 id보다 늦게 커밋될 수 있다.
+ * 그래서 직전에 전송한 id 바로 다음이 아닌 행(앞에 아직 커밋되지 않았을 수 있는 id가 있음)이 commit-skew보다 최근에 만들어졌으면
+ * 그 행부터는 다음 주기로 미룬다. commit-skew가 지난 빈 id는 롤백된 것으로 보고 넘어간다.
+ * 따라서 같은 key의 순서는 아웃박스 INSERT부터 커밋까지(노드 간 시계 차 포함)가 commit-skew 안에 끝나는 트랜잭션에 대해서만 보장된다.
+ * 이보다 오래 걸린 트랜잭션의 이벤트는 순서가 뒤바뀔 수 있으며, 컨슈머는 reservationId 기준 멱등 처리로 중복 없이 처리한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String RELAY_LOCK = "lock:outbox:relay";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration commitSkew;
+
+    // 락을 쥔 릴레이가 마지막으로 전송한 id (0 = 모름, 기동 직후나 다른 노드가 전송한 뒤에는 빈 id로 보고 commit-skew만큼 기다림)
+    private long lastRelayedId;
+
+    private final AtomicLong oldestPendingAt = new AtomicLong(0L);
+    private final Counter publishedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       RedissonClient redissonClient,
+                       MeterRegistry meterRegistry,
+                       @Value("${ticket.outbox.batch-size:500}") int batchSize,
+                       @Value("${ticket.outbox.send-timeout:10s}") Duration sendTimeout,
+                       @Value("${ticket.outbox.commit-skew:2s}") Duration commitSkew) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.commitSkew = commitSkew;
+
+        Gauge.builder("outbox.lag", oldestPendingAt, this::lagSeconds)
+                .description("가장 오래된 미전송 아웃박스 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("outbox.published")
+                .description("Kafka로 전송 완료된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("outbox.batch.size")
+                .description("릴레이 1회 전송 건수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.outbox.relay-interval-ms:100}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> fetched = outboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (fetched.isEmpty()) {
+            oldestPendingAt.set(0L);
+            return 0;
+        }
+        oldestPendingAt.set(toEpochMillis(fetched.get(0).getCreatedAt()));
+        List<OutboxEvent> batch = settledPrefix(fetched);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+        for (OutboxEvent outboxEvent : batch) {
+            futures.add(kafkaTemplate.send(toRecord(outboxEvent)));
+        }
+        kafkaTemplate.flush();
+
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                log.error("아웃박스 전송 실패, 다음 주기에 재시도: outboxEventId={}", batch.get(i).getId(), e);
+                break;
+            }
+            publishedIds.add(batch.get(i).getId());
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdIn(publishedIds);
+            lastRelayedId = publishedIds.get(publishedIds.size() - 1);
+            publishedCounter.increment(publishedIds.size());
+            batchSizeSummary.record(publishedIds.size());
+        }
+        return publishedIds.size() == fetched.size() ? fetched.size() : 0;
+    }
+
+    /**
+     * 앞선 id가 모두 커밋(또는 롤백)되었다고 볼 수 있는 앞부분
+     * 직전 id 바로 다음이 아닌 행이 commit-skew 안에 만들어졌으면 그 행부터 제외한다.
+     */
+    private List<OutboxEvent> settledPrefix(List<OutboxEvent> batch) {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(commitSkew);
+        long previousId = lastRelayedId;
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent outboxEvent = batch.get(i);
+            boolean afterGap = previousId == 0L || outboxEvent.getId() != previousId + 1;
+            if (afterGap && outboxEvent.getCreatedAt().isAfter(settledBefore)) {
+                return batch.subList(0, i);
+            }
+            previousId = outboxEvent.getId();
+        }
+        return batch;
+    }
+
+    private ProducerRecord<String, byte[]> toRecord(OutboxEvent outboxEvent) {
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(outboxEvent.getTopic(), outboxEvent.getMessageKey(), outboxEvent.getPayload());
+        // 컨슈머의 JsonDeserializer가 타입을 판별할 수 있도록 타입 헤더 추가
+        record.headers().add(new RecordHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                outboxEvent.getEventType().getBytes(StandardCharsets.UTF_8)));
+        return record;
+    }
+
+    private double lagSeconds(AtomicLong oldest) {
+        long createdAt = oldest.get();
+        return createdAt == 0L ? 0.0 : (System.currentTimeMillis() - createdAt) / 1000.0;
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
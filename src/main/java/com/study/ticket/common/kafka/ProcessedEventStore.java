@@ -0,0 +1,130 @@
+package com.study.ticket.common.kafka;
+
+import com.study.ticket.common.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컨슈머 멱등 처리를 위한 처리 완료 표시 저장소
+ * 배치 단위로 SET NX EX를 파이프라인 한 번에 보내 처음 보는 reservationId만 골라낸다.
+ * [키 수명]
+ * 1. claim: 처리 중 표시를 짧은 TTL(claim-ttl)로 선점. 처리 도중 노드가 죽으면 표시가 곧 만료되어 재전달된 이벤트를 다시 처리할 수 있다.
+ * 2. complete: 배치 처리가 끝난 뒤 처리 완료 표시로 바꾸고 TTL을 idempotency-ttl로 늘림.
+ * [선점 실패 구분]
+ * SET NX에 실패한 키는 GET으로 값을 다시 읽어 처리 완료(건너뜀)와 다른 컨슈머가 처리 중(재시도 필요)을 구분한다.
+ * 리밸런스 직후 이전 담당 노드가 아직 처리 중인 이벤트를 중복으로 보고 커밋하면, 이전 담당 노드가 실패했을 때 다시 처리할 기회가 사라지기 때문.
+ * 두 명령 사이에 표시가 만료/해제되어 값이 없으면 처리 중으로 보고 재시도에 맡긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProcessedEventStore {
+
+    private static final byte[] IN_PROGRESS = "0".getBytes(StandardCharsets.UTF_8);
+    private static final String DONE_VALUE = "1";
+    private static final byte[] DONE = DONE_VALUE.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${ticket.kafka.idempotency-ttl:24h}")
+    private Duration ttl;
+
+    @Value("${ticket.kafka.idempotency-claim-ttl:30s}")
+    private Duration claimTtl;
+
+    /**
+     * 처리 권한을 선점
+     * @return 새로 선점한 reservationId와 다른 컨슈머가 처리 중인 reservationId (각각 입력 순서 유지, 처리 완료된 ID는 어느 쪽에도 없음)
+     */
+    public ClaimResult claim(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return new ClaimResult(List.of(), List.of());
+        }
+        Expiration expiration = Expiration.from(claimTtl);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long reservationId : reservationIds) {
+                connection.stringCommands().set(key(reservationId), IN_PROGRESS, expiration, RedisStringCommands.SetOption.SET_IF_ABSENT);
+            }
+            return null;
+        });
+
+        List<Long> claimed = new ArrayList<>(reservationIds.size());
+        List<Long> taken = new ArrayList<>();
+        for (int i = 0; i < reservationIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                claimed.add(reservationIds.get(i));
+            } else {
+                taken.add(reservationIds.get(i));
+            }
+        }
+        return new ClaimResult(claimed, findInProgress(taken));
+    }
+
+    /**
+     * 처리 완료 표시 (claim 한 배치의 처리가 모두 끝난 뒤 호출)
+     */
+    public void complete(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.from(ttl);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long reservationId : reservationIds) {
+                connection.stringCommands().set(key(reservationId), DONE, expiration, RedisStringCommands.SetOption.UPSERT);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 처리 실패 시 선점 해제 (재전달된 이벤트를 다시 처리할 수 있도록)
+     */
+    public void release(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(reservationIds.stream().map(RedisKeys::processedReservationEvent).toList());
+    }
+
+    /**
+     * 선점에 실패한 ID 중 처리 완료 표시가 없는 ID (처리 중이거나 그 사이 표시가 풀린 경우)
+     */
+    private List<Long> findInProgress(List<Long> taken) {
+        if (taken.isEmpty()) {
+            return List.of();
+        }
+        List<Object> markers = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long reservationId : taken) {
+                connection.stringCommands().get(key(reservationId));
+            }
+            return null;
+        });
+        List<Long> inProgress = new ArrayList<>();
+        for (int i = 0; i < taken.size(); i++) {
+            if (!DONE_VALUE.equals(markers.get(i))) {
+                inProgress.add(taken.get(i));
+            }
+        }
+        return inProgress;
+    }
+
+    private byte[] key(Long reservationId) {
+        return RedisKeys.processedReservationEvent(reservationId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param claimed 이번 호출에서 새로 선점한 ID (처리 후 complete 또는 release 해야 함)
+     * @param inProgress 다른 컨슈머가 처리 중인 ID (건너뛰지 말고 재전달 받아야 함)
+     */
+    public record ClaimResult(List<Long> claimed, List<Long> inProgress) {
+    }
+}
@@ -1,23 +1,116 @@
 package com.study.ticket.common.kafka;
 
 import com.study.ticket.domain.dto.event.ReservationEvent;
+import com.study.ticket.domain.service.ReservationExpiryScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
 public class TicketEventConsumer {
 
+    private final ProcessedEventStore processedEventStore;
+    private final ReservationExpiryScheduler reservationExpiryScheduler;
+    private final KeyOrderedExecutor reservationEventExecutor;
+
+    private final Timer batchTimer;
+    private final Timer eventLagTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter duplicateCounter;
+    private final Counter inProgressCounter;
+
+    public TicketEventConsumer(ProcessedEventStore processedEventStore,
+                               ReservationExpiryScheduler reservationExpiryScheduler,
+                               KeyOrderedExecutor reservationEventExecutor,
+                               MeterRegistry meterRegistry) {
+        this.processedEventStore = processedEventStore;
+        this.reservationExpiryScheduler = reservationExpiryScheduler;
+        this.reservationEventExecutor = reservationEventExecutor;
+        this.batchTimer = Timer.builder("kafka.reservation.batch.duration")
+                .description("예약 이벤트 배치 처리 시간")
+                .register(meterRegistry);
+        this.eventLagTimer = Timer.builder("kafka.reservation.event.lag")
+                .description("이벤트 발생부터 컨슈머 수신까지 걸린 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("kafka.reservation.batch.size")
+                .description("배치당 수신 이벤트 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("kafka.reservation.duplicates")
+                .description("중복 전달되어 건너뛴 이벤트 수")
+                .register(meterRegistry);
+        this.inProgressCounter = Counter.builder("kafka.reservation.in-progress")
+                .description("다른 컨슈머가 처리 중이라 재전달을 요청한 이벤트 수")
+                .register(meterRegistry);
+    }
+
     /**
      * 예약 완료 이벤트를 구독하여 후처리를 수행
      * [구현 로직]
      * 1. 알림 발송: 외부 API를 호출하여 유저에게 예약 성공 알림톡 전송.
      * 2. 만료 타이머 등록: Redis 또는 스케줄러를 통해 10분 내 미결제 시 자동 취소 로직 트리거.
      * 3. 멱등성 처리: 동일한 이벤트가 중복 전달되었을 때 중복 처리가 되지 않도록 보장.
+     * [배치 처리]
+     * poll 단위로 이벤트 목록을 받아 멱등성 확인(파이프라인 1회)과 만료 타이머 등록(ZADD 1회)을 한 번에 수행한다.
+     * 멱등성 키는 처리 중 표시(짧은 TTL)로 선점하고, 알림과 타이머 등록이 끝난 뒤에야 처리 완료 표시로 바꾼다.
+     * 처리 중 예외가 발생하면 선점한 멱등성 키를 해제하고 예외를 던져 배치 전체를 재전달 받는다.
+     * 노드가 죽어 해제하지 못해도 처리 중 표시가 만료된 뒤 재전달되므로 이벤트를 잃지 않는다.
+     * 리밸런스 직후처럼 다른 컨슈머가 처리 중인 이벤트가 섞여 있으면 나머지를 처리한 뒤 예외를 던져 커밋하지 않는다.
+     * 재시도 기간(KafkaConfig 에러 핸들러의 간격 x 횟수)은 처리 중 표시 TTL보다 길어, 이전 담당 노드가 실패하면 재시도에서 다시 선점해 처리한다.
+     * [병렬 처리]
+     * 리스너 스레드는 listener-concurrency 개로 파티션을 나눠 맡고(파티션 수보다 많으면 남는 스레드는 유휴 상태),
+     * 배치 안에서는 메시지 키와 같은 userId 기준으로 레인을 나눠 알림을 동시에 보낸다. 같은 유저의 이벤트는 수신 순서대로 처리된다.
      */
-    @KafkaListener(topics = "reservation-topic", groupId = "ticket-group")
-    public void handleReservationEvent(ReservationEvent event) {
-        log.info("예약 후처리 시작: {}", event.reservationId());
+    @KafkaListener(topics = KafkaTopics.RESERVATION, groupId = "ticket-group", batch = "true",
+            concurrency = "${ticket.kafka.listener-concurrency:1}")
+    public void handleReservationEvents(List<ReservationEvent> events) {
+        long startedAt = System.nanoTime();
+        batchSizeSummary.record(events.size());
+
+        Map<Long, ReservationEvent> unique = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (ReservationEvent event : events) {
+            unique.putIfAbsent(event.reservationId(), event);
+            eventLagTimer.record(Duration.between(event.createdAt(), now));
+        }
+
+        ProcessedEventStore.ClaimResult claim = processedEventStore.claim(new ArrayList<>(unique.keySet()));
+        List<Long> claimed = claim.claimed();
+        duplicateCounter.increment(events.size() - claimed.size() - claim.inProgress().size());
+
+        if (!claimed.isEmpty()) {
+            List<ReservationEvent> fresh = claimed.stream().map(unique::get).toList();
+            try {
+                reservationEventExecutor.execute(fresh, ReservationEvent::userId, this::sendNotification);
+                reservationExpiryScheduler.register(fresh);
+                processedEventStore.complete(claimed);
+            } catch (RuntimeException e) {
+                processedEventStore.release(claimed);
+                throw e;
+            }
+        }
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (!claim.inProgress().isEmpty()) {
+            // 다른 컨슈머가 처리 중인 이벤트는 커밋하지 않고 재전달 받는다 (이번에 처리한 이벤트는 처리 완료 표시로 건너뜀)
+            inProgressCounter.increment(claim.inProgress().size());
+            throw new IllegalStateException("다른 컨슈머가 처리 중인 예약 이벤트: " + claim.inProgress());
+        }
+    }
+
+    private void sendNotification(ReservationEvent event) {
+        log.debug("예약 알림 발송: reservationId={}, userId={}", event.reservationId(), event.userId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.study.ticket.common.kafka.codec;
+
+/**
+ * 이벤트 하나의 바이너리 본문 인코딩
+ * 헤더([MAGIC][typeId][version])는 EventCodecs가 붙이고, 구현체는 본문만 읽고 쓴다.
+ * 본문 형식을 바꿀 때는 version을 올리고 이전 version도 계속 읽을 수 있어야 한다.
+ */
+public interface BinaryEventCodec<T> {
+
+    /**
+     * 페이로드 헤더에 기록되는 이벤트 타입 번호 (한 번 정하면 바꾸지 않음)
+     */
+    byte typeId();
+
+    /**
+     * 현재 쓰는 본문 버전
+     */
+    byte version();
+
+    Class<T> type();
+
+    void write(T event, BinaryWriter writer);
+
+    T read(byte version, BinaryReader reader);
+}
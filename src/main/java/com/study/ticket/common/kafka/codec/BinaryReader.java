@@ -0,0 +1,43 @@
+package com.study.ticket.common.kafka.codec;
+
+/**
+ * BinaryWriter 형식 읽기
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public byte readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalArgumentException("이벤트 페이로드가 잘렸습니다.");
+        }
+        return buffer[position++];
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("가변 길이 정수 형식이 올바르지 않습니다.");
+    }
+
+    public Long readNullableLong() {
+        long encoded = readVarLong();
+        if (encoded == 0L) {
+            return null;
+        }
+        long zigzag = encoded - 1;
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
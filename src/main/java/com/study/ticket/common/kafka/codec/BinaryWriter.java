@@ -0,0 +1,50 @@
+package com.study.ticket.common.kafka.codec;
+
+import java.util.Arrays;
+
+/**
+ * 가변 길이 정수(LEB128) 기반 바이트 쓰기 버퍼
+ */
+public final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * 부호 없는 가변 길이 정수 (7비트씩, 상위 비트 = 다음 바이트 존재)
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * null 가능 정수 (0 = null, 나머지 = zigzag(value) + 1)
+     */
+    public void writeNullableLong(Long value) {
+        writeVarLong(value == null ? 0L : ((value << 1) ^ (value >> 63)) + 1);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
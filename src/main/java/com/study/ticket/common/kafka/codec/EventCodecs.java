@@ -0,0 +1,65 @@
+package com.study.ticket.common.kafka.codec;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 바이너리 코덱 등록부
+ * [페이로드 형식]
+ * [0] MAGIC(0xB1) [1] typeId [2] version [3..] 본문
+ * JSON 페이로드는 '{'(0x7B)로 시작하므로 첫 바이트만으로 구분되고, 같은 토픽에 두 형식이 섞여 있어도 읽을 수 있다.
+ * 새 이벤트 타입은 BinaryEventCodec 구현 후 CODECS에 추가한다.
+ */
+public final class EventCodecs {
+
+    public static final byte MAGIC = (byte) 0xB1;
+    private static final int HEADER_SIZE = 3;
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final List<BinaryEventCodec<?>> CODECS = List.of(new ReservationEventCodec());
+    private static final Map<Class<?>, BinaryEventCodec<?>> BY_TYPE =
+            CODECS.stream().collect(Collectors.toUnmodifiableMap(BinaryEventCodec::type, Function.identity()));
+    private static final Map<Byte, BinaryEventCodec<?>> BY_TYPE_ID =
+            CODECS.stream().collect(Collectors.toUnmodifiableMap(BinaryEventCodec::typeId, Function.identity()));
+
+    private EventCodecs() {
+    }
+
+    public static boolean supports(Class<?> type) {
+        return BY_TYPE.containsKey(type);
+    }
+
+    /**
+     * 바이너리 형식 페이로드인지 확인
+     */
+    public static boolean isBinary(byte[] payload) {
+        return payload != null && payload.length >= HEADER_SIZE && payload[0] == MAGIC;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> byte[] encode(T event) {
+        BinaryEventCodec<T> codec = (BinaryEventCodec<T>) BY_TYPE.get(event.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("바이너리 코덱이 없는 이벤트: " + event.getClass().getName());
+        }
+        BinaryWriter writer = new BinaryWriter(INITIAL_CAPACITY);
+        writer.writeByte(MAGIC);
+        writer.writeByte(codec.typeId());
+        writer.writeByte(codec.version());
+        codec.write(event, writer);
+        return writer.toByteArray();
+    }
+
+    public static Object decode(byte[] payload) {
+        if (!isBinary(payload)) {
+            throw new IllegalArgumentException("바이너리 이벤트 페이로드가 아닙니다.");
+        }
+        BinaryEventCodec<?> codec = BY_TYPE_ID.get(payload[1]);
+        if (codec == null) {
+            throw new IllegalArgumentException("알 수 없는 이벤트 타입: " + payload[1]);
+        }
+        return codec.read(payload[2], new BinaryReader(payload, HEADER_SIZE));
+    }
+}
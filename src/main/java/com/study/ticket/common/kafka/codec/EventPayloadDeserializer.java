@@ -0,0 +1,37 @@
+package com.study.ticket.common.kafka.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * 바이너리/JSON 겸용 이벤트 역직렬화기 (consumer value-deserializer)
+ * 첫 바이트가 MAGIC이면 EventCodecs로, 아니면 기존 JsonDeserializer(타입 헤더 사용)로 읽는다.
+ * 전환 중에 아웃박스/토픽에 남아 있는 JSON 이벤트도 그대로 처리된다.
+ */
+public class EventPayloadDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return EventCodecs.isBinary(data) ? EventCodecs.decode(data) : jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        return EventCodecs.isBinary(data) ? EventCodecs.decode(data) : jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,59 @@
+package com.study.ticket.common.kafka.codec;
+
+import com.study.ticket.domain.dto.event.ReservationEvent;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ReservationEvent 바이너리 본문 (version 1)
+ * reservationId, userId, seatId, createdAt(초), createdAt(나노초) 순서의 가변 길이 정수.
+ * createdAt은 LocalDateTime 필드값 그대로 보존하기 위해 UTC 기준 초로 환산한다 (시간대 변환 없음).
+ */
+public class ReservationEventCodec implements BinaryEventCodec<ReservationEvent> {
+
+    private static final byte TYPE_ID = 1;
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public byte version() {
+        return VERSION;
+    }
+
+    @Override
+    public Class<ReservationEvent> type() {
+        return ReservationEvent.class;
+    }
+
+    @Override
+    public void write(ReservationEvent event, BinaryWriter writer) {
+        writer.writeNullableLong(event.reservationId());
+        writer.writeNullableLong(event.userId());
+        writer.writeNullableLong(event.seatId());
+        LocalDateTime createdAt = event.createdAt();
+        writer.writeNullableLong(createdAt == null ? null : createdAt.toEpochSecond(ZoneOffset.UTC));
+        if (createdAt != null) {
+            writer.writeVarLong(createdAt.getNano());
+        }
+    }
+
+    @Override
+    public ReservationEvent read(byte version, BinaryReader reader) {
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 ReservationEvent 버전: " + version);
+        }
+        Long reservationId = reader.readNullableLong();
+        Long userId = reader.readNullableLong();
+        Long seatId = reader.readNullableLong();
+        Long epochSecond = reader.readNullableLong();
+        LocalDateTime createdAt = epochSecond == null
+                ? null
+                : LocalDateTime.ofEpochSecond(epochSecond, (int) reader.readVarLong(), ZoneOffset.UTC);
+        return new ReservationEvent(reservationId, userId, seatId, createdAt);
+    }
+}
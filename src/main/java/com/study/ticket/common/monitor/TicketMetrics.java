@@ -0,0 +1,74 @@
+package com.study.ticket.common.monitor;
+
+import com.study.ticket.domain.inventory.SeatHoldResult;
+import com.study.ticket.domain.payment.PaymentResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약/결제 핫패스 메트릭
+ * 결과별 Timer를 미리 만들어 두고 요청마다 기록만 한다 (요청 경로에서 태그 조합/레지스트리 조회를 하지 않음).
+ * - ticket.reservation{result}: 좌석 선점 응답 시간 (result=ALREADY_HELD 건수 = 충돌 횟수)
+ * - ticket.payment{result}: 결제 응답 시간 (실패는 ExceptionCode 이름)
+ * - ticket.seat.lock.wait{acquired}: 좌석 락 대기 시간 (redisson-lock 모드)
+ * 히스토그램 버킷은 application.yml의 management.metrics.distribution 설정으로 켠다.
+ */
+@Component
+public class TicketMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<SeatHoldResult, Timer> reservationTimers = new EnumMap<>(SeatHoldResult.class);
+    private final Map<String, Timer> paymentTimers = new ConcurrentHashMap<>();
+    private final Timer lockAcquiredTimer;
+    private final Timer lockTimeoutTimer;
+
+    public TicketMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (SeatHoldResult result : SeatHoldResult.values()) {
+            reservationTimers.put(result, Timer.builder("ticket.reservation")
+                    .description("좌석 선점 요청 처리 시간")
+                    .tag("result", result.name())
+                    .register(meterRegistry));
+        }
+        for (PaymentResult result : PaymentResult.values()) {
+            paymentTimer(result.name());
+        }
+        this.lockAcquiredTimer = lockWaitTimer(true);
+        this.lockTimeoutTimer = lockWaitTimer(false);
+    }
+
+    public void recordReservation(SeatHoldResult result, long startedAtNanos) {
+        reservationTimers.get(result).record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param result PaymentResult 또는 실패한 ExceptionCode 이름
+     */
+    public void recordPayment(String result, long startedAtNanos) {
+        paymentTimer(result).record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockWait(boolean acquired, long startedAtNanos) {
+        (acquired ? lockAcquiredTimer : lockTimeoutTimer).record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer paymentTimer(String result) {
+        return paymentTimers.computeIfAbsent(result, key -> Timer.builder("ticket.payment")
+                .description("결제 요청 처리 시간")
+                .tag("result", key)
+                .register(meterRegistry));
+    }
+
+    private Timer lockWaitTimer(boolean acquired) {
+        return Timer.builder("ticket.seat.lock.wait")
+                .description("좌석 락 획득까지 대기한 시간")
+                .tag("acquired", String.valueOf(acquired))
+                .register(meterRegistry);
+    }
+}
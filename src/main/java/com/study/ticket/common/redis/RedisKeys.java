@@ -0,0 +1,161 @@
+package com.study.ticket.common.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 키 규칙 모음
+ */
+public final class RedisKeys {
+
+    private RedisKeys() {
+    }
+
+    /**
+     * 대기열 ZSET (score = 진입 시각)
+     */
+    public static String waitQueue(Long concertOptionId) {
+        return "queue:wait:" + concertOptionId;
+    }
+
+    /**
+     * 샤드로 나눈 대기열 ZSET (score = 진입 시각, 샤드 = userId 해시)
+     */
+    public static String waitQueue(Long concertOptionId, int shard) {
+        return "queue:wait:" + concertOptionId + ":" + shard;
+    }
+
+    /**
+     * 회차의 대기열 키 전체 (샤드가 1개면 waitQueue(concertOptionId) 하나)
+     */
+    public static List<String> waitQueues(Long concertOptionId, int shards) {
+        if (shards == 1) {
+            return List.of(waitQueue(concertOptionId));
+        }
+        List<String> keys = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            keys.add(waitQueue(concertOptionId, shard));
+        }
+        return keys;
+    }
+
+    /**
+     * 회차의 누적 입장 인원 카운터 (노드 간 입장 속도 공유용)
+     */
+    public static String admittedCount(Long concertOptionId) {
+        return "queue:admitted:" + concertOptionId;
+    }
+
+    /**
+     * 활성 세션 키 (TTL = 세션 유효 시간)
+     */
+    public static String activeSession(Long concertOptionId, Long userId) {
+        return "queue:active:" + concertOptionId + ":" + userId;
+    }
+
+    /**
+     * 활성 세션 집계용 ZSET (member = userId, score = 세션 만료 시각)
+     */
+    public static String activeSessions(Long concertOptionId) {
+        return "queue:active-set:" + concertOptionId;
+    }
+
+    /**
+     * 세션 연장 횟수 카운터
+     */
+    public static String sessionExtension(Long concertOptionId, Long userId) {
+        return "queue:extend:" + concertOptionId + ":" + userId;
+    }
+
+    /**
+     * 대기 인원이 있는 회차 ID 집합 (입장 스케줄러 순회용)
+     */
+    public static String queueOptions() {
+        return "queue:options";
+    }
+
+    /**
+     * 입장 처리 중인 유저 기록 (HASH, field = userId, value = 대기열 진입 시각)
+     * 대기열에서 뺀 뒤 활성 세션을 만들기 전에 노드가 죽어도 다음 입장 처리에서 마저 입장시키기 위한 기록
+     */
+    public static String admittingUsers(Long concertOptionId) {
+        return "queue:admitting:" + concertOptionId;
+    }
+
+    /**
+     * 회차별 입장 처리 Redisson 락 이름
+     */
+    public static String promoteLock(Long concertOptionId) {
+        return "lock:queue:promote:" + concertOptionId;
+    }
+
+    /**
+     * 1인 1큐 제한용 유저 상태 키 (value = 대기 중인 회차 ID)
+     */
+    public static String userStatus(Long userId) {
+        return "user:status:" + userId;
+    }
+
+    /**
+     * 좌석 선점 키 (value = 선점한 userId, TTL = 결제 대기 시간)
+     */
+    public static String seatHold(Long concertOptionId, Long seatId) {
+        return "seat:hold:" + concertOptionId + ":" + seatId;
+    }
+
+    /**
+     * 예약 만료 대기열 ZSET (member = reservationId, score = 결제 마감 시각)
+     */
+    public static String reservationExpiry() {
+        return "reservation:expiry";
+    }
+
+    /**
+     * 처리 완료된 예약 이벤트 표시 키 (컨슈머 멱등성)
+     */
+    public static String processedReservationEvent(Long reservationId) {
+        return "event:reservation:" + reservationId;
+    }
+
+    /**
+     * 공연 목록 응답 캐시
+     */
+    public static String concertCatalog() {
+        return "catalog:concerts";
+    }
+
+    /**
+     * 공연별 회차 목록 응답 캐시
+     */
+    public static String concertOptionCatalog(Long concertId) {
+        return "catalog:concerts:" + concertId + ":options";
+    }
+
+    /**
+     * 카탈로그 캐시 무효화 pub/sub 채널 (message = 캐시 키)
+     */
+    public static String catalogInvalidationChannel() {
+        return "catalog:invalidate";
+    }
+
+    /**
+     * 활성 세션 종료 pub/sub 채널 (message = "{concertOptionId}:{userId}:{종료 시각(ms)}")
+     */
+    public static String sessionRevocationChannel() {
+        return "queue:session:revoke";
+    }
+
+    /**
+     * 입장 제어 노드 하트비트 ZSET (member = 노드 ID, score = 마지막 동기화 시각)
+     */
+    public static String admissionNodes() {
+        return "admission:nodes";
+    }
+
+    /**
+     * 좌석 단위 Redisson 분산 락 이름
+     */
+    public static String seatLock(Long seatId) {
+        return "lock:seat:" + seatId;
+    }
+}
@@ -0,0 +1,130 @@
+package com.study.ticket.common.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 해시드 타이밍 휠
+ * [구조]
+ * 1. wheelSize개의 버킷을 tickMillis 간격으로 한 칸씩 순회하는 단일 워커 스레드.
+ * 2. 등록은 pending 큐에 넣기만 하고(락 없음), 워커가 틱마다 버킷으로 옮긴다.
+ * 3. 한 바퀴 이상 남은 항목은 remainingRounds로 구분하여, 항목 수와 무관하게 틱당 비용은 버킷 하나 크기에 비례.
+ * 4. 한 틱에 만료된 항목은 리스트로 모아 콜백 한 번으로 전달 (일괄 처리용).
+ */
+@Slf4j
+public class HashedTimingWheel<T> implements AutoCloseable {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<List<Entry<T>>> buckets;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<List<T>> onExpired;
+    private final Thread worker;
+
+    private long startedAt;
+    private long tick;
+    private volatile boolean running;
+
+    /**
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     * @param onExpired 틱마다 만료된 항목을 모아서 받는 콜백 (워커 스레드에서 호출)
+     */
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize, Consumer<List<T>> onExpired) {
+        int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.onExpired = onExpired;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        startedAt = System.currentTimeMillis();
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 만료 시각(epoch ms)에 item을 만료시키도록 등록 (이미 지난 시각이면 다음 틱에 만료)
+     */
+    public void schedule(T item, long deadlineMillis) {
+        pending.add(new Entry<>(item, deadlineMillis));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long sleepMillis = startedAt + (tick + 1) * tickMillis - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            transferPending();
+            List<T> expired = expireBucket(buckets.get((int) (tick & mask)));
+            tick++;
+
+            if (!expired.isEmpty()) {
+                try {
+                    onExpired.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error("타이머 만료 처리 실패: {}건", expired.size(), e);
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            long deadlineTick = Math.max((entry.deadlineMillis - startedAt) / tickMillis, tick);
+            entry.remainingRounds = (deadlineTick - tick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(entry);
+        }
+    }
+
+    private List<T> expireBucket(List<Entry<T>> bucket) {
+        List<T> expired = new ArrayList<>();
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.remainingRounds <= 0) {
+                expired.add(entry.item);
+                iterator.remove();
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+        return expired;
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Entry(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.study.ticket.domain.Entity;
 
+import com.study.ticket.common.cache.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "concert")
 @NoArgsConstructor
 public class Concert {
@@ -1,5 +1,6 @@
 package com.study.ticket.domain.Entity;
 
+import com.study.ticket.common.cache.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "concert_option")
 @NoArgsConstructor
 public class ConcertOption {
@@ -0,0 +1,49 @@
+package com.study.ticket.domain.Entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * 비즈니스 데이터와 같은 트랜잭션에서 저장되고, OutboxRelay가 Kafka로 전송한 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@Table(name = "outbox_event")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @Column(name = "outbox_event_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "blob")
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent create(String topic, String messageKey, String eventType, byte[] payload) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.topic = topic;
+        outboxEvent.messageKey = messageKey;
+        outboxEvent.eventType = eventType;
+        outboxEvent.payload = payload;
+        outboxEvent.createdAt = LocalDateTime.now();
+        return outboxEvent;
+    }
+}
@@ -0,0 +1,46 @@
+package com.study.ticket.domain.Entity;
+
+import com.study.ticket.domain.constant.PointTransactionType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 (추가만 가능, 수정/삭제 없음)
+ * idempotency_key 유니크 제약으로 같은 요청이 두 번 반영되지 않도록 한다.
+ */
+@Entity
+@Getter
+@Table(name = "point_transaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_transaction_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_point_transaction_user_id", columnList = "user_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointTransaction {
+
+    @Id
+    @Column(name = "point_transaction_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 잔액 변화량 (충전 +, 사용 -)
+     */
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private PointTransactionType type;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
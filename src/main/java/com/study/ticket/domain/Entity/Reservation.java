@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "reservation")
+@Table(name = "reservation",
+        indexes = @Index(name = "idx_reservation_user_id", columnList = "user_id"))
 @NoArgsConstructor
 public class Reservation {
 
@@ -25,4 +26,12 @@ public class Reservation {
     @Enumerated(EnumType.STRING)
     @Column(name = "reservation_status")
     private ReservationStatus status;
+
+    public static Reservation create(Long userId, Long seatId) {
+        Reservation reservation = new Reservation();
+        reservation.userId = userId;
+        reservation.seatId = seatId;
+        reservation.status = ReservationStatus.NOT_PAID;
+        return reservation;
+    }
 }
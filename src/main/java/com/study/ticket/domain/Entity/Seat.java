@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "seat")
+@Table(name = "seat",
+        indexes = @Index(name = "idx_seat_option_status", columnList = "concert_option_id, seat_status"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_seat_option_number", columnNames = {"concert_option_id", "seat_number"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Seat {
 
@@ -0,0 +1,14 @@
+package com.study.ticket.domain.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum PointTransactionType {
+    CHARGE("CHARGE", "포인트 충전"),
+    USE("USE", "포인트 사용");
+
+    private final String type;
+    private final String description;
+}
@@ -7,7 +7,8 @@ import lombok.Getter;
 @Getter
 public enum ReservationStatus {
     PAID("PAID", "결제 완료"),
-    NOT_PAID("NOT_PAID", "결제 전");
+    NOT_PAID("NOT_PAID", "결제 전"),
+    CANCELED("CANCELED", "결제 기한 만료로 취소");
 
     private final String status;
     private final String description;
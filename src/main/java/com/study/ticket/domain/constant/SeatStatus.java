@@ -7,7 +7,8 @@ import lombok.Getter;
 @Getter
 public enum SeatStatus {
     AVAILABLE("AVAILABLE", "에약 가능"),
-    RESERVED("RESERVED", "에약 완료");
+    RESERVED("RESERVED", "에약 완료"),
+    SOLD("SOLD", "결제 완료");
 
     private final String status;
     private final String description;
@@ -1,44 +1,121 @@
 package com.study.ticket.domain.controller;
 
+import com.study.ticket.common.admission.AdmissionClaims;
+import com.study.ticket.common.admission.AdmissionControlFilter;
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ErrorResponses;
+import com.study.ticket.common.exception.ExceptionCode;
 import com.study.ticket.domain.dto.request.ChargePointRequest;
+import com.study.ticket.domain.dto.request.GroupReserveRequest;
 import com.study.ticket.domain.dto.request.PaymentRequest;
 import com.study.ticket.domain.dto.request.ReserveSeatRequest;
-import com.study.ticket.domain.dto.response.ConcertListResponse;
-import com.study.ticket.domain.dto.response.ConcertOptionListResponse;
+import com.study.ticket.domain.dto.request.SeatLayoutRequest;
 import com.study.ticket.domain.dto.response.SeatListResponse;
+import com.study.ticket.domain.dto.response.SeatMapBitmapResponse;
+import com.study.ticket.domain.dto.response.SeatMapDeltaResponse;
+import com.study.ticket.domain.dto.response.SeatProvisioningResponse;
+import com.study.ticket.domain.inventory.SeatHoldResult;
+import com.study.ticket.domain.inventory.SeatMapSnapshot;
+import com.study.ticket.domain.service.TicketingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/ticketing")
+@RequiredArgsConstructor
 public class TicketingController {
 
+    private static final String SEAT_MAP_VERSION_HEADER = "X-Seat-Map-Version";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final ResponseEntity<String> RESERVED_RESPONSE = ResponseEntity.ok("좌석이 예약되었습니다.");
+
+    private final TicketingService ticketingService;
+
     /**
      * 공연목록을 조회하는 API
+     * 캐시에 미리 직렬화된 ConcertListResponse JSON을 그대로 내려준다.
      * @return
      */
     @GetMapping("/concerts")
-    public ResponseEntity<ConcertListResponse> getConcerts() {
-        return null;
+    public ResponseEntity<byte[]> getConcerts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ticketingService.getConcertsJson());
     }
 
     /**
      * 공연 옵션을 조회하는 API
+     * 캐시에 미리 직렬화된 ConcertOptionListResponse JSON을 그대로 내려준다.
      * @return
      */
     @GetMapping("/concerts/{concertId}/options")
-    public ResponseEntity<ConcertOptionListResponse> getConcertOptions(@PathVariable Long concertId) {
-        return null;
+    public ResponseEntity<byte[]> getConcertOptions(@PathVariable Long concertId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ticketingService.getConcertOptionsJson(concertId));
     }
 
     /**
      * 공연 옵션에서 예매가능한 좌석을 조회하는 API
+     * 스냅샷에 미리 직렬화된 SeatListResponse JSON을 내려주고, 스냅샷 버전은 X-Seat-Map-Version 헤더로 전달한다.
      * @param concertOptionId
      * @return
      */
     @GetMapping("/concerts/options/{concertOptionId}/seats")
-    public ResponseEntity<SeatListResponse> getAvailableSeats(@PathVariable Long concertOptionId) {
-        return null;
+    public ResponseEntity<byte[]> getAvailableSeats(@PathVariable Long concertOptionId) {
+        SeatMapSnapshot snapshot = ticketingService.getAvailableSeats(concertOptionId);
+        return ResponseEntity.ok()
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(snapshot.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.availableSeatsJson());
+    }
+
+    /**
+     * 공연 옵션에서 sinceVersion 이후 상태가 바뀐 좌석만 조회하는 API
+     * @param concertOptionId
+     * @param sinceVersion 직전 응답의 버전
+     * @return
+     */
+    @GetMapping(value = "/concerts/options/{concertOptionId}/seats", params = "sinceVersion")
+    public ResponseEntity<SeatMapDeltaResponse> getSeatChanges(@PathVariable Long concertOptionId,
+                                                               @RequestParam long sinceVersion) {
+        return ResponseEntity.ok(ticketingService.getSeatChanges(concertOptionId, sinceVersion));
+    }
+
+    /**
+     * 공연 옵션의 좌석 현황을 비트맵으로 조회하는 API (?format=bitmap)
+     * @param concertOptionId
+     * @return
+     */
+    @GetMapping(value = "/concerts/options/{concertOptionId}/seats", params = "format=bitmap")
+    public ResponseEntity<SeatMapBitmapResponse> getSeatBitmap(@PathVariable Long concertOptionId) {
+        return ResponseEntity.ok(ticketingService.getSeatBitmap(concertOptionId));
+    }
+
+    /**
+     * 공연 옵션의 전체 좌석 배치를 조회하는 API (비트맵의 좌석 순서 기준)
+     * @param concertOptionId
+     * @return
+     */
+    @GetMapping("/concerts/options/{concertOptionId}/seats/layout")
+    public ResponseEntity<SeatListResponse> getSeatLayout(@PathVariable Long concertOptionId) {
+        return ResponseEntity.ok(ticketingService.getSeatLayout(concertOptionId));
+    }
+
+    /**
+     * 공연 옵션의 좌석을 배치대로 일괄 생성하는 API
+     * @param concertOptionId
+     * @param request
+     * @return 생성 좌석 수와 적재 속도(rows/s)
+     */
+    @PostMapping("/concerts/options/{concertOptionId}/seats")
+    public ResponseEntity<SeatProvisioningResponse> provisionSeats(@PathVariable Long concertOptionId,
+                                                                   @RequestBody SeatLayoutRequest request) {
+        return ResponseEntity.ok(ticketingService.provisionSeats(concertOptionId, request));
     }
 
     /**
@@ -48,17 +125,34 @@ public class TicketingController {
      */
     @GetMapping("/user/{userId}/reservations")
     public ResponseEntity<SeatListResponse> getReservedSeats(@PathVariable Long userId) {
-        return null;
+        return ResponseEntity.ok(ticketingService.getReservedSeats(userId));
     }
 
     /**
      * 좌석을 예약하는 API
+     * 선점 실패는 예외 처리를 거치지 않고 미리 만들어 둔 응답(409/401)을 그대로 반환한다.
      * @param request
      * @return
      */
     @PostMapping("/reservations")
-    public ResponseEntity<String> reserveSeat(@RequestBody ReserveSeatRequest request) {
-        return null;
+    public ResponseEntity<String> reserveSeat(@RequestBody ReserveSeatRequest request,
+                                              @RequestAttribute(name = AdmissionControlFilter.CLAIMS_ATTRIBUTE, required = false) AdmissionClaims claims) {
+        requireSameUser(claims, request.userId());
+        SeatHoldResult result = ticketingService.reserveSeat(request);
+        return result.isHeld() ? RESERVED_RESPONSE : ErrorResponses.of(result.getFailureCode());
+    }
+
+    /**
+     * 여러 좌석을 한 번에 예약하는 API (전부 예약되거나 하나도 예약되지 않음)
+     * seatIds 대신 adjacentCount를 주면 같은 열의 이어진 빈 좌석을 골라 예약한다.
+     * @param request
+     * @return 예약된 좌석 목록
+     */
+    @PostMapping("/reservations/group")
+    public ResponseEntity<SeatListResponse> reserveSeats(@RequestBody GroupReserveRequest request,
+                                                         @RequestAttribute(name = AdmissionControlFilter.CLAIMS_ATTRIBUTE, required = false) AdmissionClaims claims) {
+        requireSameUser(claims, request.userId());
+        return ResponseEntity.ok(ticketingService.reserveSeats(request));
     }
 
     /**
@@ -67,17 +161,31 @@ public class TicketingController {
      * @return
      */
     @PostMapping("/payments")
-    public ResponseEntity<String> payment(@RequestBody PaymentRequest request) {
-        return null;
+    public ResponseEntity<String> payment(@RequestBody PaymentRequest request,
+                                          @RequestAttribute(name = AdmissionControlFilter.CLAIMS_ATTRIBUTE, required = false) AdmissionClaims claims) {
+        requireSameUser(claims, request.userId());
+        return ResponseEntity.ok(ticketingService.payment(request));
     }
 
     /**
      * 포인트를 충전하는 API
+     * Idempotency-Key 헤더가 같은 요청은 한 번만 반영된다. (헤더가 없으면 매 요청을 새 충전으로 처리)
      * @param request
      * @return
      */
     @PostMapping("/point/charge")
-    public ResponseEntity<Long> chargePoint(@RequestBody ChargePointRequest request) {
-        return null;
+    public ResponseEntity<Long> chargePoint(@RequestBody ChargePointRequest request,
+                                            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        String key = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+        return ResponseEntity.ok(ticketingService.chargePoint(request, key));
+    }
+
+    /**
+     * 입장 제어 필터가 검증한 토큰의 유저와 요청 유저가 같은지 확인 (필터를 끄면 검사하지 않음)
+     */
+    private static void requireSameUser(AdmissionClaims claims, Long userId) {
+        if (claims != null && !claims.isFor(userId)) {
+            throw new CustomException(ExceptionCode.QUEUE_SESSION_EXPIRED);
+        }
     }
 }
@@ -1,5 +1,12 @@
 package com.study.ticket.domain.controller;
 
+import com.study.ticket.common.admission.AdmissionClaims;
+import com.study.ticket.common.admission.AdmissionControlFilter;
+import com.study.ticket.common.admission.AdmissionTokenCodec;
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.domain.service.QueueBroadcaster;
+import com.study.ticket.domain.service.WaitingQueueService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,19 +18,56 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor
 public class WaitingQueueController {
 
+    private final WaitingQueueService waitingQueueService;
+    private final QueueBroadcaster queueBroadcaster;
+    private final AdmissionTokenCodec admissionTokenCodec;
+
     /**
      * SSE를 통한 실시간 순번 구독
      * [구현 가이드]
      * 1. SseEmitter 생성 및 registerQueue 호출.
      * 2. 반복 주기마다 getRank()를 조회해 클라이언트에 전송.
      * 3. isActive()가 true가 되면 '입장' 이벤트 전송 후 emitter.complete().
+     * [구현]
+     * 순번 조회와 전송은 QueueBroadcaster가 회차 단위로 모아서 처리한다.
      */
     @GetMapping(value = "/stream/{optionId}/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@PathVariable Long optionId, @PathVariable Long userId) { return null; }
+    public SseEmitter subscribe(@PathVariable Long optionId, @PathVariable Long userId) {
+        waitingQueueService.registerQueue(optionId, userId);
+        return queueBroadcaster.subscribe(optionId, userId);
+    }
 
     /**
      * 세션 연장 요청 API
+     * 본인 세션의 입장 토큰을 X-Admission-Token 헤더로 보내야 하고, 연장된 만료 시각을 담은 토큰을 같은 헤더로 내려준다.
+     * (토큰은 userId만으로 발급하지 않는다. 다른 유저의 토큰을 받아 입장 제어를 우회할 수 있으므로)
      */
     @PostMapping("/extend/{optionId}/{userId}")
-    public ResponseEntity<Void> extendSession(@PathVariable Long optionId, @PathVariable Long userId) { return null; }
-}
\ No newline at end of file
+    public ResponseEntity<Void> extendSession(@PathVariable Long optionId, @PathVariable Long userId,
+                                              @RequestHeader(AdmissionControlFilter.TOKEN_HEADER) String admissionToken) {
+        requireOwnToken(admissionToken, optionId, userId);
+        long expiresAt = waitingQueueService.extendActiveSession(optionId, userId);
+        return ResponseEntity.ok()
+                .header(AdmissionControlFilter.TOKEN_HEADER, admissionTokenCodec.issue(optionId, userId, expiresAt))
+                .build();
+    }
+
+    /**
+     * 활성 세션 종료 API (예매를 마치고 나가면 다음 대기자가 바로 입장)
+     * 본인 세션의 입장 토큰을 X-Admission-Token 헤더로 보내야 한다.
+     */
+    @DeleteMapping("/session/{optionId}/{userId}")
+    public ResponseEntity<Void> leaveSession(@PathVariable Long optionId, @PathVariable Long userId,
+                                             @RequestHeader(AdmissionControlFilter.TOKEN_HEADER) String admissionToken) {
+        requireOwnToken(admissionToken, optionId, userId);
+        waitingQueueService.leaveActiveSession(optionId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private void requireOwnToken(String admissionToken, Long optionId, Long userId) {
+        AdmissionClaims claims = admissionTokenCodec.verify(admissionToken);
+        if (claims == null || !claims.concertOptionId().equals(optionId) || !claims.isFor(userId)) {
+            throw new CustomException(ExceptionCode.QUEUE_SESSION_EXPIRED);
+        }
+    }
+}
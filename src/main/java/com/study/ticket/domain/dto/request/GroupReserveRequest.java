@@ -0,0 +1,10 @@
+package com.study.ticket.domain.dto.request;
+
+import java.util.List;
+
+/**
+ * 여러 좌석 동시 예약 요청
+ * seatIds를 지정하면 해당 좌석을, 비워 두고 adjacentCount를 주면 같은 열의 연속된 빈 좌석을 서버가 골라 예약한다.
+ */
+public record GroupReserveRequest(Long concertOptionId, Long userId, List<Long> seatIds, Integer adjacentCount) {
+}
@@ -0,0 +1,16 @@
+package com.study.ticket.domain.dto.request;
+
+import java.util.List;
+
+/**
+ * 회차 좌석 배치 (구역별 열 수 x 열당 좌석 수, 구역 단위 가격)
+ * 좌석 번호는 "{구역}-{열}-{번호}" 형식으로 생성된다.
+ */
+public record SeatLayoutRequest(List<Section> sections) {
+
+    public record Section(String name, int rows, int seatsPerRow, Long price) {
+        public int seatCount() {
+            return rows * seatsPerRow;
+        }
+    }
+}
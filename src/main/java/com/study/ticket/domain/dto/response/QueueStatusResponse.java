@@ -0,0 +1,23 @@
+package com.study.ticket.domain.dto.response;
+
+/**
+ * SSE로 전달하는 대기 상태
+ * @param rank 대기 순번 (1부터 시작, 입장 시 0)
+ * @param active 활성 세션 보유 여부
+ * @param etaSeconds 예상 대기 시간(초), 입장 속도를 아직 모르면 null
+ * @param approximate rank가 추정값인지 여부 (선두 구간 밖)
+ * @param admissionToken 입장 시 발급되는 토큰 (예약/결제 요청의 X-Admission-Token 헤더로 전달, 대기 중에 연 스트림에만 담김)
+ */
+public record QueueStatusResponse(Long rank, boolean active, Long etaSeconds, boolean approximate, String admissionToken) {
+    public static QueueStatusResponse waiting(long rank, Long etaSeconds, boolean approximate) {
+        return new QueueStatusResponse(rank, false, etaSeconds, approximate, null);
+    }
+
+    public static QueueStatusResponse entered(String admissionToken) {
+        return new QueueStatusResponse(0L, true, 0L, false, admissionToken);
+    }
+
+    public static QueueStatusResponse expired() {
+        return new QueueStatusResponse(null, false, null, false, null);
+    }
+}
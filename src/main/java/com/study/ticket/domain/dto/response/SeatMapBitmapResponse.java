@@ -0,0 +1,11 @@
+package com.study.ticket.domain.dto.response;
+
+/**
+ * 좌석 현황 비트맵
+ * @param version 현재 좌석 현황 버전
+ * @param seatCount 전체 좌석 수
+ * @param occupancy Base64 인코딩된 점유 비트맵
+ *                  (좌석 ID 오름차순 i번째 좌석 = byte[i / 8]의 (i % 8)번째 비트, 1 = 예약됨)
+ */
+public record SeatMapBitmapResponse(Long concertOptionId, long version, int seatCount, String occupancy) {
+}
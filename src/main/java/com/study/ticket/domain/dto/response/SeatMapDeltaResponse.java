@@ -0,0 +1,11 @@
+package com.study.ticket.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * 좌석 현황 변경분
+ * @param version 현재 좌석 현황 버전 (다음 요청의 sinceVersion으로 사용)
+ * @param seats sinceVersion 이후 상태가 바뀐 좌석
+ */
+public record SeatMapDeltaResponse(Long concertOptionId, long version, List<SeatResponse> seats) {
+}
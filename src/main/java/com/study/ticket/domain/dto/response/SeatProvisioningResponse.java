@@ -0,0 +1,4 @@
+package com.study.ticket.domain.dto.response;
+
+public record SeatProvisioningResponse(Long concertOptionId, int seatCount, long elapsedMillis, long rowsPerSecond) {
+}
@@ -4,6 +4,13 @@ import com.study.ticket.domain.Entity.Seat;
 import com.study.ticket.domain.constant.SeatStatus;
 
 public record SeatResponse(Long seatId, String seatNumber, String status) {
+    /**
+     * JPQL 생성자 표현식용 (엔티티를 거치지 않고 조회 결과로 바로 생성)
+     */
+    public SeatResponse(Long seatId, String seatNumber, SeatStatus status) {
+        this(seatId, seatNumber, status.toString());
+    }
+
     public static SeatResponse from(Seat seat) {
         return new SeatResponse(seat.getId(), seat.getSeatNumber(), seat.getStatus().toString());
     }
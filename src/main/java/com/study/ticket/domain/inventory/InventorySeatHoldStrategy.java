@@ -0,0 +1,42 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.domain.service.WaitingQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.seat-hold.mode", havingValue = "inventory", matchIfMissing = true)
+public class InventorySeatHoldStrategy implements SeatHoldStrategy {
+
+    private final WaitingQueueService waitingQueueService;
+    private final SeatInventoryManager seatInventoryManager;
+    private final ReservationWriter reservationWriter;
+
+    @Override
+    public SeatHoldResult hold(Long concertOptionId, Long seatId, Long userId) {
+        if (!waitingQueueService.isActive(concertOptionId, userId)) {
+            return SeatHoldResult.SESSION_EXPIRED;
+        }
+        if (!seatInventoryManager.tryHold(seatId, userId)) {
+            return SeatHoldResult.ALREADY_HELD;
+        }
+        reservationWriter.write(seatId, userId, () -> seatInventoryManager.release(seatId, userId));
+        return SeatHoldResult.HELD;
+    }
+
+    @Override
+    public SeatHoldResult holdAll(Long concertOptionId, List<Long> seatIds, Long userId) {
+        if (!waitingQueueService.isActive(concertOptionId, userId)) {
+            return SeatHoldResult.SESSION_EXPIRED;
+        }
+        if (!seatInventoryManager.tryHoldAll(concertOptionId, seatIds, userId)) {
+            return SeatHoldResult.ALREADY_HELD;
+        }
+        reservationWriter.writeAll(seatIds, userId, () -> seatInventoryManager.releaseAll(concertOptionId, seatIds, userId));
+        return SeatHoldResult.HELD;
+    }
+}
@@ -0,0 +1,145 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.common.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lua 스크립트 한 번의 왕복으로 활성 세션 검증과 좌석 선점을 처리하는 방식
+ * [선점 키 수명]
+ * 1. 선점 시 holdTtl로 만료를 걸어 둔다. (예약을 저장하기 전에 노드가 죽어도 좌석이 풀리도록)
+ * 2. 예약이 커밋되면 만료를 해제한다. 이후에는 예약 마감 기준으로 동작한다.
+ *    결제되면 키가 그대로 남아 판매 완료 표시가 되고, 미결제 예약은 만료 처리기가 마감 시각에 키를 지운다.
+ * 3. 키가 어긋나도(커밋 직후 장애로 만료를 해제하지 못한 경우 등) 예약 저장은 AVAILABLE 좌석만 바꾸므로 중복 예약은 DB에서 막힌다.
+ * [로컬 인벤토리]
+ * 이 노드의 좌석 조회용으로만 반영한다. 로컬 점유에 실패하면(다른 노드의 변경을 아직 모름) 로컬 반환은 하지 않는다.
+ * 선점 키가 이미 있어 실패하면 그 키의 점유자를 로컬에도 반영하여 연석 재검색이 같은 좌석을 다시 고르지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.seat-hold.mode", havingValue = "redis-script")
+public class RedisScriptSeatHoldStrategy implements SeatHoldStrategy {
+
+    private static final RedisScript<Long> SEAT_HOLD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat_hold.lua"), Long.class);
+    private static final RedisScript<Long> SEAT_HOLD_ALL_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat_hold_all.lua"), Long.class);
+    private static final RedisScript<Long> SEAT_HOLD_PERSIST_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat_hold_persist.lua"), Long.class);
+    private static final RedisScript<Long> SEAT_HOLD_RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat_hold_release.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SeatInventoryManager seatInventoryManager;
+    private final ReservationWriter reservationWriter;
+    private final SeatHoldProperties seatHoldProperties;
+
+    @Override
+    public SeatHoldResult hold(Long concertOptionId, Long seatId, Long userId) {
+        String holdKey = RedisKeys.seatHold(concertOptionId, seatId);
+        Long result = stringRedisTemplate.execute(
+                SEAT_HOLD_SCRIPT,
+                List.of(RedisKeys.activeSession(concertOptionId, userId), holdKey),
+                String.valueOf(userId),
+                String.valueOf(seatHoldProperties.holdTtl().toMillis()));
+
+        if (result == null || result == 0L) {
+            markHeldElsewhere(concertOptionId, List.of(seatId), List.of(holdKey));
+            return SeatHoldResult.ALREADY_HELD;
+        }
+        if (result < 0L) {
+            return SeatHoldResult.SESSION_EXPIRED;
+        }
+
+        // 이 노드의 좌석 조회 결과에도 반영 (다른 노드는 재적재 시점에 반영)
+        boolean heldLocally = seatInventoryManager.tryHold(seatId, userId);
+        if (!heldLocally) {
+            log.debug("로컬 인벤토리와 선점 키 불일치, DB 반영 결과로 판단: seatId={}", seatId);
+        }
+        reservationWriter.write(seatId, userId,
+                () -> persistHoldKeys(List.of(holdKey), userId),
+                () -> {
+                    releaseHoldKeys(List.of(holdKey), userId);
+                    if (heldLocally) {
+                        seatInventoryManager.release(seatId, userId);
+                    }
+                });
+        return SeatHoldResult.HELD;
+    }
+
+    /**
+     * seat_hold_all.lua 한 번으로 세션 검증과 좌석 전체 선점 (모두 비어 있을 때만 전부 선점)
+     */
+    @Override
+    public SeatHoldResult holdAll(Long concertOptionId, List<Long> seatIds, Long userId) {
+        List<String> holdKeys = seatIds.stream().map(seatId -> RedisKeys.seatHold(concertOptionId, seatId)).toList();
+        List<String> keys = new ArrayList<>(holdKeys.size() + 1);
+        keys.add(RedisKeys.activeSession(concertOptionId, userId));
+        keys.addAll(holdKeys);
+        Long result = stringRedisTemplate.execute(
+                SEAT_HOLD_ALL_SCRIPT,
+                keys,
+                String.valueOf(userId),
+                String.valueOf(seatHoldProperties.holdTtl().toMillis()));
+
+        if (result == null || result == 0L) {
+            markHeldElsewhere(concertOptionId, seatIds, holdKeys);
+            return SeatHoldResult.ALREADY_HELD;
+        }
+        if (result < 0L) {
+            return SeatHoldResult.SESSION_EXPIRED;
+        }
+
+        boolean heldLocally = seatInventoryManager.tryHoldAll(concertOptionId, seatIds, userId);
+        if (!heldLocally) {
+            log.debug("로컬 인벤토리와 선점 키 불일치, DB 반영 결과로 판단: seatIds={}", seatIds);
+        }
+        reservationWriter.writeAll(seatIds, userId,
+                () -> persistHoldKeys(holdKeys, userId),
+                () -> {
+                    releaseHoldKeys(holdKeys, userId);
+                    if (heldLocally) {
+                        seatInventoryManager.releaseAll(concertOptionId, seatIds, userId);
+                    }
+                });
+        return SeatHoldResult.HELD;
+    }
+
+    /**
+     * 선점 키가 남아 있는 좌석을 점유자와 함께 로컬 인벤토리에 반영 (MGET 1회)
+     */
+    private void markHeldElsewhere(Long concertOptionId, List<Long> seatIds, List<String> holdKeys) {
+        List<String> holders = stringRedisTemplate.opsForValue().multiGet(holdKeys);
+        if (holders == null) {
+            return;
+        }
+        Map<Long, Long> holderBySeatId = new HashMap<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            if (holders.get(i) != null) {
+                holderBySeatId.put(seatIds.get(i), Long.valueOf(holders.get(i)));
+            }
+        }
+        seatInventoryManager.markOccupied(concertOptionId, holderBySeatId);
+    }
+
+    private void persistHoldKeys(List<String> holdKeys, Long userId) {
+        stringRedisTemplate.execute(SEAT_HOLD_PERSIST_SCRIPT, holdKeys, String.valueOf(userId));
+    }
+
+    private void releaseHoldKeys(List<String> holdKeys, Long userId) {
+        stringRedisTemplate.execute(SEAT_HOLD_RELEASE_SCRIPT, holdKeys,
+                Collections.nCopies(holdKeys.size(), String.valueOf(userId)).toArray());
+    }
+}
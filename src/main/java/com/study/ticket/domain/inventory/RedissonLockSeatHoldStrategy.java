@@ -0,0 +1,133 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.common.monitor.TicketMetrics;
+import com.study.ticket.common.redis.RedisKeys;
+import com.study.ticket.domain.Entity.Seat;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.repository.SeatRepository;
+import com.study.ticket.domain.service.WaitingQueueService;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 단위 Redisson 분산 락 안에서 DB 조회 후 예약을 동기 저장하는 방식
+ * (락 획득 -> 좌석 조회 -> 예약 저장 -> 락 해제, 비교용 기준 구현)
+ * DB에서 이미 팔린 좌석을 확인하면 로컬 인벤토리에도 점유로 반영하여 연석 재검색이 같은 좌석을 다시 고르지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.seat-hold.mode", havingValue = "redisson-lock")
+public class RedissonLockSeatHoldStrategy implements SeatHoldStrategy {
+
+    private static final Long UNKNOWN_HOLDER = 0L;
+
+    private final RedissonClient redissonClient;
+    private final WaitingQueueService waitingQueueService;
+    private final SeatRepository seatRepository;
+    private final SeatInventoryManager seatInventoryManager;
+    private final ReservationWriter reservationWriter;
+    private final SeatHoldProperties seatHoldProperties;
+    private final TicketMetrics ticketMetrics;
+
+    @Override
+    public SeatHoldResult hold(Long concertOptionId, Long seatId, Long userId) {
+        if (!waitingQueueService.isActive(concertOptionId, userId)) {
+            return SeatHoldResult.SESSION_EXPIRED;
+        }
+
+        RLock lock = redissonClient.getLock(RedisKeys.seatLock(seatId));
+        long waitStartedAt = System.nanoTime();
+        try {
+            boolean acquired = lock.tryLock(seatHoldProperties.lockWait().toMillis(), seatHoldProperties.lockLease().toMillis(), TimeUnit.MILLISECONDS);
+            ticketMetrics.recordLockWait(acquired, waitStartedAt);
+            if (!acquired) {
+                return SeatHoldResult.ALREADY_HELD;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SeatHoldResult.ALREADY_HELD;
+        }
+
+        try {
+            boolean available = seatRepository.findById(seatId)
+                    .map(seat -> seat.getStatus() == SeatStatus.AVAILABLE)
+                    .orElse(false);
+            if (!available) {
+                seatInventoryManager.markOccupied(concertOptionId, Map.of(seatId, UNKNOWN_HOLDER));
+                return SeatHoldResult.ALREADY_HELD;
+            }
+            reservationWriter.persist(seatId, userId);
+        } catch (CustomException e) {
+            if (e.getCode() != ExceptionCode.SEAT_ALREADY_RESERVED) {
+                throw e;
+            }
+            return SeatHoldResult.ALREADY_HELD;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+
+        seatInventoryManager.tryHold(seatId, userId);
+        return SeatHoldResult.HELD;
+    }
+
+    /**
+     * 좌석 ID 오름차순으로 정렬된 Redisson 멀티 락을 잡아 교착 없이 전체 좌석을 확인/저장
+     */
+    @Override
+    public SeatHoldResult holdAll(Long concertOptionId, List<Long> seatIds, Long userId) {
+        if (!waitingQueueService.isActive(concertOptionId, userId)) {
+            return SeatHoldResult.SESSION_EXPIRED;
+        }
+
+        RLock lock = redissonClient.getMultiLock(seatIds.stream()
+                .map(seatId -> redissonClient.getLock(RedisKeys.seatLock(seatId)))
+                .toArray(RLock[]::new));
+        long waitStartedAt = System.nanoTime();
+        try {
+            boolean acquired = lock.tryLock(seatHoldProperties.lockWait().toMillis(), seatHoldProperties.lockLease().toMillis(), TimeUnit.MILLISECONDS);
+            ticketMetrics.recordLockWait(acquired, waitStartedAt);
+            if (!acquired) {
+                return SeatHoldResult.ALREADY_HELD;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SeatHoldResult.ALREADY_HELD;
+        }
+
+        // 멀티 락은 isHeldByCurrentThread를 지원하지 않으므로 획득 후 바로 try-finally로 해제
+        try {
+            List<Seat> seats = seatRepository.findAllById(seatIds);
+            boolean available = seats.size() == seatIds.size()
+                    && seats.stream().allMatch(seat -> seat.getStatus() == SeatStatus.AVAILABLE);
+            if (!available) {
+                seatInventoryManager.markOccupied(concertOptionId, seats.stream()
+                        .filter(seat -> seat.getStatus() != SeatStatus.AVAILABLE)
+                        .collect(Collectors.toMap(Seat::getId, seat -> UNKNOWN_HOLDER)));
+                return SeatHoldResult.ALREADY_HELD;
+            }
+            reservationWriter.persistAll(seatIds, userId);
+        } catch (CustomException e) {
+            if (e.getCode() != ExceptionCode.SEAT_ALREADY_RESERVED) {
+                throw e;
+            }
+            return SeatHoldResult.ALREADY_HELD;
+        } finally {
+            lock.unlock();
+        }
+
+        seatInventoryManager.tryHoldAll(concertOptionId, seatIds, userId);
+        return SeatHoldResult.HELD;
+    }
+}
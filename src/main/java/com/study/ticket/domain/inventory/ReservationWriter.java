@@ -0,0 +1,166 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.common.config.AsyncConfig;
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.common.kafka.KafkaTopics;
+import com.study.ticket.common.kafka.OutboxAppender;
+import com.study.ticket.domain.Entity.Reservation;
+import com.study.ticket.domain.constant.ReservationStatus;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.dto.event.ReservationEvent;
+import com.study.ticket.domain.repository.ReservationRepository;
+import com.study.ticket.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선점된 좌석을 seat/reservation 테이블에 반영하는 컴포넌트
+ * [구현 로직]
+ * 1. 좌석 상태 변경 + 예약 저장 + ReservationEvent 아웃박스 적재를 하나의 트랜잭션으로 수행.
+ *    좌석은 AVAILABLE일 때만 RESERVED로 바꾸고, 한 좌석이라도 바뀌지 않으면 SEAT_ALREADY_RESERVED로 롤백한다.
+ *    (다른 노드가 먼저 예약했거나, 이 노드의 인벤토리가 다른 노드의 커밋보다 먼저 적재된 경우)
+ * 2. 비동기 반영(write)은 별도 스레드 풀에서 수행하고, 실패 시 선점 방식별 보상 로직을 실행.
+ * 3. Kafka 전송은 OutboxRelay가 담당하므로 요청 스레드는 Kafka를 기다리지 않음.
+ * 4. 여러 좌석 예약은 reservation INSERT를 JDBC 배치 한 번으로 처리하고 생성된 키로 이벤트를 만든다.
+ *    (IDENTITY 키라 Hibernate는 INSERT를 배치로 묶지 못함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationWriter {
+
+    private static final String INSERT_RESERVATION =
+            "insert into reservation (user_id, seat_id, reservation_status) values (?, ?, ?)";
+
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxAppender outboxAppender;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예약을 비동기로 저장
+     * @param onFailure 저장 실패 시 선점을 되돌리는 보상 로직
+     */
+    @Async(AsyncConfig.RESERVATION_WRITE_EXECUTOR)
+    public void write(Long seatId, Long userId, Runnable onFailure) {
+        write(seatId, userId, () -> {}, onFailure);
+    }
+
+    /**
+     * 예약을 비동기로 저장
+     * @param onPersisted 저장(커밋) 후 실행할 로직
+     * @param onFailure 저장 실패 시 선점을 되돌리는 보상 로직
+     */
+    @Async(AsyncConfig.RESERVATION_WRITE_EXECUTOR)
+    public void write(Long seatId, Long userId, Runnable onPersisted, Runnable onFailure) {
+        try {
+            persist(seatId, userId);
+        } catch (RuntimeException e) {
+            log.error("예약 저장 실패, 좌석 선점 해제: seatId={}, userId={}", seatId, userId, e);
+            onFailure.run();
+            return;
+        }
+        onPersisted.run();
+    }
+
+    /**
+     * 예약과 예약 이벤트를 호출 스레드에서 저장
+     */
+    public Reservation persist(Long seatId, Long userId) {
+        return transactionTemplate.execute(status -> {
+            markReserved(List.of(seatId));
+            Reservation reservation = reservationRepository.save(Reservation.create(userId, seatId));
+            outboxAppender.append(KafkaTopics.RESERVATION, KafkaTopics.reservationKey(userId),
+                    new ReservationEvent(reservation.getId(), userId, seatId, LocalDateTime.now()));
+            return reservation;
+        });
+    }
+
+    /**
+     * 여러 좌석의 예약을 비동기로 저장
+     * @param onFailure 저장 실패 시 모든 좌석의 선점을 되돌리는 보상 로직
+     */
+    @Async(AsyncConfig.RESERVATION_WRITE_EXECUTOR)
+    public void writeAll(List<Long> seatIds, Long userId, Runnable onFailure) {
+        writeAll(seatIds, userId, () -> {}, onFailure);
+    }
+
+    /**
+     * 여러 좌석의 예약을 비동기로 저장
+     * @param onPersisted 저장(커밋) 후 실행할 로직
+     * @param onFailure 저장 실패 시 모든 좌석의 선점을 되돌리는 보상 로직
+     */
+    @Async(AsyncConfig.RESERVATION_WRITE_EXECUTOR)
+    public void writeAll(List<Long> seatIds, Long userId, Runnable onPersisted, Runnable onFailure) {
+        try {
+            persistAll(seatIds, userId);
+        } catch (RuntimeException e) {
+            log.error("예약 일괄 저장 실패, 좌석 선점 해제: seatIds={}, userId={}", seatIds, userId, e);
+            onFailure.run();
+            return;
+        }
+        onPersisted.run();
+    }
+
+    /**
+     * 여러 좌석의 예약과 예약 이벤트를 한 트랜잭션으로 저장
+     * @return 생성된 예약 ID (seatIds 순서)
+     */
+    public List<Long> persistAll(List<Long> seatIds, Long userId) {
+        return transactionTemplate.execute(status -> {
+            markReserved(seatIds);
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_RESERVATION, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, userId);
+                            ps.setLong(2, seatIds.get(i));
+                            ps.setString(3, ReservationStatus.NOT_PAID.name());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return seatIds.size();
+                        }
+                    },
+                    keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> reservationIds = new ArrayList<>(seatIds.size());
+            for (int i = 0; i < seatIds.size(); i++) {
+                Long reservationId = ((Number) keys.get(i).values().iterator().next()).longValue();
+                reservationIds.add(reservationId);
+                outboxAppender.append(KafkaTopics.RESERVATION, KafkaTopics.reservationKey(userId),
+                        new ReservationEvent(reservationId, userId, seatIds.get(i), now));
+            }
+            return reservationIds;
+        });
+    }
+
+    private void markReserved(List<Long> seatIds) {
+        if (seatRepository.updateStatusIf(seatIds, SeatStatus.AVAILABLE, SeatStatus.RESERVED) != seatIds.size()) {
+            throw new CustomException(ExceptionCode.SEAT_ALREADY_RESERVED);
+        }
+    }
+}
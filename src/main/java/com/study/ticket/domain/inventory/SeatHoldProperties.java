@@ -0,0 +1,23 @@
+package com.study.ticket.domain.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 좌석 선점 설정
+ * @param mode 선점 방식 (inventory, redis-script, redisson-lock)
+ * @param holdTtl 결제 전까지 좌석을 붙잡아 두는 시간
+ * @param lockWait redisson-lock 모드의 락 대기 시간
+ * @param lockLease redisson-lock 모드의 락 점유 시간
+ * @param maxGroupSize 한 번에 예약할 수 있는 최대 좌석 수
+ */
+@ConfigurationProperties("ticket.seat-hold")
+public record SeatHoldProperties(
+        @DefaultValue("inventory") String mode,
+        @DefaultValue("10m") Duration holdTtl,
+        @DefaultValue("3s") Duration lockWait,
+        @DefaultValue("3s") Duration lockLease,
+        @DefaultValue("8") int maxGroupSize
+) {}
@@ -0,0 +1,23 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.common.exception.ExceptionCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좌석 선점 결과
+ * 실패는 예외 대신 이 값으로 반환되고, failureCode로 응답을 만든다.
+ */
+@AllArgsConstructor
+@Getter
+public enum SeatHoldResult {
+    HELD(null),
+    ALREADY_HELD(ExceptionCode.SEAT_ALREADY_RESERVED),
+    SESSION_EXPIRED(ExceptionCode.QUEUE_SESSION_EXPIRED);
+
+    private final ExceptionCode failureCode;
+
+    public boolean isHeld() {
+        return this == HELD;
+    }
+}
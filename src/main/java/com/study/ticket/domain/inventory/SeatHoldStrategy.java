@@ -0,0 +1,26 @@
+package com.study.ticket.domain.inventory;
+
+import java.util.List;
+
+/**
+ * 좌석 선점 방식
+ * 'ticket.seat-hold.mode' 프로퍼티로 구현체를 선택한다.
+ * - inventory     : 메모리 좌석 인벤토리 CAS + 비동기 DB 반영 (기본값)
+ * - redis-script  : Lua 스크립트 한 번으로 세션 검증 + 좌석 선점 후 비동기 DB 반영
+ * - redisson-lock : 좌석 단위 Redisson 락 안에서 DB 조회/저장
+ */
+public interface SeatHoldStrategy {
+
+    /**
+     * 활성 세션을 검증하고 좌석을 선점한다.
+     * 선점에 성공하면 예약 저장까지 책임진다.
+     */
+    SeatHoldResult hold(Long concertOptionId, Long seatId, Long userId);
+
+    /**
+     * 같은 회차의 좌석들을 한 번에 선점한다. (하나라도 선점된 좌석이 있으면 아무것도 선점하지 않음)
+     * 선점에 성공하면 예약 저장까지 책임진다.
+     * @param seatIds 중복 없이 오름차순으로 정렬된 좌석 ID
+     */
+    SeatHoldResult holdAll(Long concertOptionId, List<Long> seatIds, Long userId);
+}
@@ -0,0 +1,271 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.domain.Entity.Seat;
+import com.study.ticket.domain.constant.SeatStatus;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * 공연 회차 하나의 좌석 점유 현황을 메모리에 보관하는 자료구조
+ * [구조]
+ * 1. 좌석은 seatId 오름차순으로 정렬된 슬롯(0 ~ n-1)에 배치.
+ * 2. occupancy: 슬롯별 점유 여부를 64개 단위 long 워드에 담은 비트셋 (CAS의 기준).
+ * 3. holders: 슬롯별 점유자 userId (0 = 비어 있음, 조회용 보조 정보).
+ * 4. version/changedAt: 점유 상태가 바뀔 때마다 증가하는 버전과 슬롯별 마지막 변경 버전 (변경분 조회용).
+ * 5. adjacentToPrevious: 슬롯이 직전 슬롯과 같은 열의 바로 옆 좌석인지 여부 (좌석 번호 "{열}-{번호}" 기준, 연석 검색용).
+ */
+public class SeatInventory {
+
+    private static final long NO_HOLDER = 0L;
+
+    @Getter
+    private final Long concertOptionId;
+    private final long[] seatIds;
+    private final String[] seatNumbers;
+    private final long[] prices;
+    private final AtomicLongArray occupancy;
+    private final AtomicLongArray holders;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLongArray changedAt;
+    private final boolean[] adjacentToPrevious;
+
+    /**
+     * @param seats 회차의 좌석 목록 (AVAILABLE이 아닌 좌석은 점유 상태로 적재)
+     * @param holderBySeatId 점유 좌석의 예약자 (seatId -> userId)
+     * @param initialVersion 시작 버전 (재적재 시 이전 인벤토리보다 큰 값을 주어 모든 좌석이 변경된 것으로 취급)
+     */
+    public SeatInventory(Long concertOptionId, List<Seat> seats, Map<Long, Long> holderBySeatId, long initialVersion) {
+        List<Seat> sorted = seats.stream().sorted(Comparator.comparing(Seat::getId)).toList();
+        int size = sorted.size();
+
+        this.concertOptionId = concertOptionId;
+        this.seatIds = new long[size];
+        this.seatNumbers = new String[size];
+        this.prices = new long[size];
+        this.occupancy = new AtomicLongArray((size + 63) >>> 6);
+        this.holders = new AtomicLongArray(size);
+        this.changedAt = new AtomicLongArray(size);
+        this.adjacentToPrevious = new boolean[size];
+        this.version.set(initialVersion);
+
+        for (int slot = 0; slot < size; slot++) {
+            Seat seat = sorted.get(slot);
+            seatIds[slot] = seat.getId();
+            seatNumbers[slot] = seat.getSeatNumber();
+            prices[slot] = seat.getPrice() == null ? 0L : seat.getPrice();
+            changedAt.set(slot, initialVersion);
+            adjacentToPrevious[slot] = slot > 0 && isNextSeat(seatNumbers[slot - 1], seatNumbers[slot]);
+            if (seat.getStatus() != SeatStatus.AVAILABLE) {
+                setBit(slot);
+                holders.set(slot, holderBySeatId.getOrDefault(seat.getId(), NO_HOLDER));
+            }
+        }
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    /**
+     * seatId에 해당하는 슬롯 번호 (없으면 음수)
+     */
+    public int slotOf(long seatId) {
+        return Arrays.binarySearch(seatIds, seatId);
+    }
+
+    public long seatId(int slot) {
+        return seatIds[slot];
+    }
+
+    public String seatNumber(int slot) {
+        return seatNumbers[slot];
+    }
+
+    public long price(int slot) {
+        return prices[slot];
+    }
+
+    public long holder(int slot) {
+        return holders.get(slot);
+    }
+
+    /**
+     * 현재 점유 상태 버전 (점유/반환이 일어날 때마다 증가)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 슬롯의 점유 상태가 마지막으로 바뀐 버전
+     */
+    public long changedAt(int slot) {
+        return changedAt.get(slot);
+    }
+
+    public int wordCount() {
+        return occupancy.length();
+    }
+
+    /**
+     * 64개 슬롯 단위 점유 비트 (bit i = 슬롯 word * 64 + i)
+     */
+    public long occupancyWord(int word) {
+        return occupancy.get(word);
+    }
+
+    public boolean isOccupied(int slot) {
+        return (occupancy.get(slot >>> 6) & (1L << slot)) != 0;
+    }
+
+    /**
+     * 비어 있는 슬롯을 userId로 점유 (비트 CAS에 성공한 요청 하나만 true)
+     */
+    public boolean tryHold(int slot, long userId) {
+        if (!setBit(slot)) {
+            return false;
+        }
+        holders.set(slot, userId);
+        markChanged(slot);
+        return true;
+    }
+
+    /**
+     * userId가 점유 중인 슬롯을 반환 (다른 유저의 점유는 건드리지 않음)
+     */
+    public boolean release(int slot, long userId) {
+        if (holders.get(slot) != userId || !isOccupied(slot)) {
+            return false;
+        }
+        holders.set(slot, NO_HOLDER);
+        clearBit(slot);
+        markChanged(slot);
+        return true;
+    }
+
+    /**
+     * 점유자와 무관하게 슬롯을 반환 (만료/취소 처리용)
+     */
+    public void forceRelease(int slot) {
+        holders.set(slot, NO_HOLDER);
+        clearBit(slot);
+        markChanged(slot);
+    }
+
+    /**
+     * 슬롯들을 모두 userId로 점유 (하나라도 실패하면 이번에 점유한 슬롯을 되돌리고 false)
+     * 슬롯 비트 CAS는 대기하지 않으므로 순서와 무관하게 교착이 없다.
+     */
+    public boolean tryHoldAll(int[] slots, long userId) {
+        for (int i = 0; i < slots.length; i++) {
+            if (!setBit(slots[i])) {
+                for (int j = 0; j < i; j++) {
+                    clearBit(slots[j]);
+                }
+                return false;
+            }
+        }
+        for (int slot : slots) {
+            holders.set(slot, userId);
+            markChanged(slot);
+        }
+        return true;
+    }
+
+    /**
+     * 같은 열에서 번호가 이어지는 빈 좌석 count개를 앞쪽 슬롯부터 검색
+     * @return 첫 슬롯 번호 (없으면 -1)
+     */
+    public int findAdjacentAvailable(int count) {
+        int run = 0;
+        for (int slot = 0; slot < size(); slot++) {
+            if (isOccupied(slot)) {
+                run = 0;
+                continue;
+            }
+            run = run > 0 && adjacentToPrevious[slot] ? run + 1 : 1;
+            if (run == count) {
+                return slot - count + 1;
+            }
+        }
+        return -1;
+    }
+
+    public int availableCount() {
+        int occupied = 0;
+        for (int i = 0; i < occupancy.length(); i++) {
+            occupied += Long.bitCount(occupancy.get(i));
+        }
+        return size() - occupied;
+    }
+
+    /**
+     * 비어 있는 슬롯을 오름차순으로 순회
+     */
+    public void forEachAvailable(IntConsumer action) {
+        int size = size();
+        for (int word = 0; word < occupancy.length(); word++) {
+            long free = ~occupancy.get(word);
+            while (free != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(free);
+                if (slot >= size) {
+                    return;
+                }
+                action.accept(slot);
+                free &= free - 1;
+            }
+        }
+    }
+
+    /**
+     * "{열}-{번호}" 형식에서 열이 같고 번호가 1 큰지 확인
+     */
+    private static boolean isNextSeat(String previous, String current) {
+        if (previous == null || current == null) {
+            return false;
+        }
+        int previousDash = previous.lastIndexOf('-');
+        int currentDash = current.lastIndexOf('-');
+        if (previousDash < 0 || previousDash != currentDash || !previous.regionMatches(0, current, 0, currentDash)) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(current.substring(currentDash + 1)) == Integer.parseInt(previous.substring(previousDash + 1)) + 1;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private void markChanged(int slot) {
+        changedAt.set(slot, version.incrementAndGet());
+    }
+
+    private boolean setBit(int slot) {
+        int word = slot >>> 6;
+        long mask = 1L << slot;
+        long current;
+        do {
+            current = occupancy.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!occupancy.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    private void clearBit(int slot) {
+        int word = slot >>> 6;
+        long mask = 1L << slot;
+        long current;
+        do {
+            current = occupancy.get(word);
+        } while (!occupancy.compareAndSet(word, current, current & ~mask));
+    }
+}
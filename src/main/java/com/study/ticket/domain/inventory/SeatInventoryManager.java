@@ -0,0 +1,199 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.domain.Entity.ConcertOption;
+import com.study.ticket.domain.Entity.Reservation;
+import com.study.ticket.domain.Entity.Seat;
+import com.study.ticket.domain.constant.ReservationStatus;
+import com.study.ticket.domain.repository.ConcertOptionRepository;
+import com.study.ticket.domain.repository.ReservationRepository;
+import com.study.ticket.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연 회차별 SeatInventory를 보관하고 좌석 점유를 메모리에서 처리하는 컴포넌트
+ * [동작 방식]
+ * 1. 애플리케이션 기동 시 DB의 seat/reservation 테이블로부터 전체 회차를 적재.
+ * 2. 좌석 점유/반환은 SeatInventory의 CAS로 처리하고, DB 반영은 ReservationWriter가 비동기로 수행.
+ * 3. 기동 이후 생성된 회차는 최초 조회 시점에 DB에서 적재.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryManager {
+
+    private static final List<ReservationStatus> HOLDING_STATUSES =
+            List.of(ReservationStatus.NOT_PAID, ReservationStatus.PAID);
+
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConcertOptionRepository concertOptionRepository;
+
+    private final Map<Long, SeatInventory> inventories = new ConcurrentHashMap<>();
+    private final Map<Long, Long> optionIdBySeatId = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        List<ConcertOption> concertOptions = concertOptionRepository.findAll();
+        for (ConcertOption concertOption : concertOptions) {
+            rebuild(concertOption.getId());
+        }
+        log.info("좌석 인벤토리 적재 완료: {}개 회차, {}ms", concertOptions.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * DB 기준으로 회차의 인벤토리를 다시 만들어 교체
+     */
+    public SeatInventory rebuild(Long concertOptionId) {
+        SeatInventory inventory = load(concertOptionId);
+        inventories.put(concertOptionId, inventory);
+        return inventory;
+    }
+
+    /**
+     * 회차의 인벤토리 조회 (적재되지 않은 회차는 DB에서 적재)
+     */
+    public SeatInventory get(Long concertOptionId) {
+        return inventories.computeIfAbsent(concertOptionId, this::load);
+    }
+
+    /**
+     * 좌석이 속한 회차 ID 조회
+     */
+    public Long findConcertOptionId(Long seatId) {
+        Long concertOptionId = optionIdBySeatId.get(seatId);
+        if (concertOptionId != null) {
+            return concertOptionId;
+        }
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new CustomException(ExceptionCode.SEAT_NOT_FOUND));
+        get(seat.getConcertOptionId());
+        return seat.getConcertOptionId();
+    }
+
+    /**
+     * 좌석 점유 시도
+     * @return 점유 성공 여부
+     */
+    public boolean tryHold(Long seatId, Long userId) {
+        SeatInventory inventory = get(findConcertOptionId(seatId));
+        return inventory.tryHold(slotOf(inventory, seatId), userId);
+    }
+
+    /**
+     * 같은 회차의 좌석들을 한 번에 점유 (전부 성공하거나 하나도 점유하지 않음)
+     */
+    public boolean tryHoldAll(Long concertOptionId, List<Long> seatIds, Long userId) {
+        SeatInventory inventory = get(concertOptionId);
+        int[] slots = new int[seatIds.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = slotOf(inventory, seatIds.get(i));
+        }
+        return inventory.tryHoldAll(slots, userId);
+    }
+
+    /**
+     * userId가 점유한 좌석들을 반환
+     */
+    public void releaseAll(Long concertOptionId, List<Long> seatIds, Long userId) {
+        SeatInventory inventory = get(concertOptionId);
+        for (Long seatId : seatIds) {
+            int slot = inventory.slotOf(seatId);
+            if (slot >= 0) {
+                inventory.release(slot, userId);
+            }
+        }
+    }
+
+    /**
+     * 다른 노드/DB에서 이미 선점된 것으로 확인된 좌석을 이 노드의 인벤토리에도 점유로 반영
+     * (로컬 인벤토리가 뒤처져 연석 재검색이 같은 좌석을 다시 고르지 않도록, 이미 점유 중인 슬롯은 그대로 둠)
+     * @param holderBySeatId seatId -> 점유자 userId (모르면 0)
+     */
+    public void markOccupied(Long concertOptionId, Map<Long, Long> holderBySeatId) {
+        SeatInventory inventory = get(concertOptionId);
+        holderBySeatId.forEach((seatId, holder) -> {
+            int slot = inventory.slotOf(seatId);
+            if (slot >= 0) {
+                inventory.tryHold(slot, holder);
+            }
+        });
+    }
+
+    /**
+     * 같은 열에서 번호가 이어지는 빈 좌석 count개 검색 (앞쪽 구역/열 우선)
+     * @return 좌석 ID 오름차순 목록 (없으면 빈 목록)
+     */
+    public List<Long> findAdjacentAvailable(Long concertOptionId, int count) {
+        SeatInventory inventory = get(concertOptionId);
+        int first = inventory.findAdjacentAvailable(count);
+        if (first < 0) {
+            return List.of();
+        }
+        List<Long> seatIds = new ArrayList<>(count);
+        for (int slot = first; slot < first + count; slot++) {
+            seatIds.add(inventory.seatId(slot));
+        }
+        return seatIds;
+    }
+
+    /**
+     * userId가 점유한 좌석을 반환
+     */
+    public boolean release(Long seatId, Long userId) {
+        SeatInventory inventory = get(findConcertOptionId(seatId));
+        return inventory.release(slotOf(inventory, seatId), userId);
+    }
+
+    /**
+     * 점유자와 무관하게 좌석을 반환 (만료/취소 처리용)
+     * @return 좌석이 속한 회차 ID (적재되지 않은 좌석이면 null)
+     */
+    public Long forceRelease(Long seatId) {
+        Long concertOptionId = optionIdBySeatId.get(seatId);
+        if (concertOptionId == null) {
+            return null;
+        }
+        SeatInventory inventory = get(concertOptionId);
+        int slot = inventory.slotOf(seatId);
+        if (slot >= 0) {
+            inventory.forceRelease(slot);
+        }
+        return concertOptionId;
+    }
+
+    private int slotOf(SeatInventory inventory, Long seatId) {
+        int slot = inventory.slotOf(seatId);
+        if (slot < 0) {
+            throw new CustomException(ExceptionCode.SEAT_NOT_FOUND);
+        }
+        return slot;
+    }
+
+    private SeatInventory load(Long concertOptionId) {
+        List<Seat> seats = seatRepository.findAllByConcertOptionId(concertOptionId);
+
+        Map<Long, Long> holderBySeatId = new HashMap<>();
+        for (Reservation reservation : reservationRepository.findAllByConcertOptionIdAndStatusIn(concertOptionId, HOLDING_STATUSES)) {
+            holderBySeatId.put(reservation.getSeatId(), reservation.getUserId());
+        }
+        for (Seat seat : seats) {
+            optionIdBySeatId.put(seat.getId(), concertOptionId);
+        }
+        SeatInventory previous = inventories.get(concertOptionId);
+        long initialVersion = previous == null ? 0L : previous.version() + 1;
+        return new SeatInventory(concertOptionId, seats, holderBySeatId, initialVersion);
+    }
+}
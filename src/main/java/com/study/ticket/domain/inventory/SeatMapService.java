@@ -0,0 +1,144 @@
+package com.study.ticket.domain.inventory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.dto.response.SeatListResponse;
+import com.study.ticket.domain.dto.response.SeatMapBitmapResponse;
+import com.study.ticket.domain.dto.response.SeatMapDeltaResponse;
+import com.study.ticket.domain.dto.response.SeatResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 회차별 좌석 현황 스냅샷을 관리하는 컴포넌트
+ * [구현 로직]
+ * 1. 스냅샷은 최대 refresh-ms 주기로만 다시 만들고, 그 사이 요청은 같은 스냅샷(직렬화된 JSON 포함)을 공유.
+ * 2. 인벤토리 버전이 그대로면 주기가 지나도 다시 만들지 않음.
+ * 3. 재생성은 한 스레드만 수행하고, 나머지 요청은 직전 스냅샷을 그대로 사용.
+ * 4. 변경분 조회는 슬롯별 마지막 변경 버전이 sinceVersion보다 큰 좌석만 반환.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatMapService {
+
+    private final SeatInventoryManager seatInventoryManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ticket.seat-map.refresh-ms:200}")
+    private long refreshMillis;
+
+    private final Map<Long, SnapshotHolder> holders = new ConcurrentHashMap<>();
+
+    public SeatMapSnapshot snapshot(Long concertOptionId) {
+        SnapshotHolder holder = holders.computeIfAbsent(concertOptionId, id -> new SnapshotHolder());
+        SeatMapSnapshot current = holder.snapshot.get();
+        SeatInventory inventory = seatInventoryManager.get(concertOptionId);
+
+        if (current != null && !isStale(current, inventory)) {
+            return current;
+        }
+        if (!holder.rebuilding.compareAndSet(false, true)) {
+            return current != null ? current : build(inventory);
+        }
+        try {
+            SeatMapSnapshot rebuilt = build(inventory);
+            holder.snapshot.set(rebuilt);
+            return rebuilt;
+        } finally {
+            holder.rebuilding.set(false);
+        }
+    }
+
+    /**
+     * sinceVersion 이후 상태가 바뀐 좌석 조회
+     */
+    public SeatMapDeltaResponse delta(Long concertOptionId, long sinceVersion) {
+        SeatMapSnapshot snapshot = snapshot(concertOptionId);
+        List<SeatResponse> changed = new ArrayList<>();
+        if (sinceVersion < snapshot.version()) {
+            for (int slot = 0; slot < snapshot.size(); slot++) {
+                if (snapshot.changedAt()[slot] > sinceVersion) {
+                    changed.add(toResponse(snapshot, slot));
+                }
+            }
+        }
+        return new SeatMapDeltaResponse(concertOptionId, snapshot.version(), changed);
+    }
+
+    public SeatMapBitmapResponse bitmap(Long concertOptionId) {
+        SeatMapSnapshot snapshot = snapshot(concertOptionId);
+        return new SeatMapBitmapResponse(concertOptionId, snapshot.version(), snapshot.size(),
+                Base64.getEncoder().encodeToString(snapshot.bitmap()));
+    }
+
+    /**
+     * 전체 좌석과 상태 (비트맵 해석용 좌석 배치)
+     */
+    public SeatListResponse layout(Long concertOptionId) {
+        SeatMapSnapshot snapshot = snapshot(concertOptionId);
+        List<SeatResponse> seats = new ArrayList<>(snapshot.size());
+        for (int slot = 0; slot < snapshot.size(); slot++) {
+            seats.add(toResponse(snapshot, slot));
+        }
+        return new SeatListResponse(seats);
+    }
+
+    private boolean isStale(SeatMapSnapshot snapshot, SeatInventory inventory) {
+        return snapshot.inventory() != inventory
+                || (snapshot.version() != inventory.version()
+                && System.currentTimeMillis() - snapshot.builtAt() >= refreshMillis);
+    }
+
+    private SeatMapSnapshot build(SeatInventory inventory) {
+        long version = inventory.version();
+
+        long[] occupancy = new long[inventory.wordCount()];
+        for (int word = 0; word < occupancy.length; word++) {
+            occupancy[word] = inventory.occupancyWord(word);
+        }
+        long[] changedAt = new long[inventory.size()];
+        byte[] bitmap = new byte[(inventory.size() + 7) >>> 3];
+        List<SeatResponse> available = new ArrayList<>();
+        String availableStatus = SeatStatus.AVAILABLE.toString();
+        for (int slot = 0; slot < changedAt.length; slot++) {
+            changedAt[slot] = inventory.changedAt(slot);
+            if ((occupancy[slot >>> 6] & (1L << slot)) != 0) {
+                bitmap[slot >>> 3] |= (byte) (1 << (slot & 7));
+            } else {
+                available.add(new SeatResponse(inventory.seatId(slot), inventory.seatNumber(slot), availableStatus));
+            }
+        }
+
+        return new SeatMapSnapshot(version, System.currentTimeMillis(), inventory, occupancy, changedAt,
+                serialize(new SeatListResponse(available)), bitmap);
+    }
+
+    private SeatResponse toResponse(SeatMapSnapshot snapshot, int slot) {
+        SeatStatus status = snapshot.isOccupied(slot) ? SeatStatus.RESERVED : SeatStatus.AVAILABLE;
+        SeatInventory inventory = snapshot.inventory();
+        return new SeatResponse(inventory.seatId(slot), inventory.seatNumber(slot), status.toString());
+    }
+
+    private byte[] serialize(SeatListResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 목록 직렬화 실패", e);
+        }
+    }
+
+    private static final class SnapshotHolder {
+        private final AtomicReference<SeatMapSnapshot> snapshot = new AtomicReference<>();
+        private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.ticket.domain.inventory;
+
+/**
+ * 특정 시점의 회차 좌석 현황 (불변, 모든 조회 요청이 공유)
+ * @param version 스냅샷을 만들기 직전의 인벤토리 버전 (변경분 조회 기준)
+ * @param builtAt 생성 시각(ms)
+ * @param inventory 좌석 ID/번호 조회용 원본 인벤토리
+ * @param occupancy 점유 비트 사본 (64개 슬롯 단위)
+ * @param changedAt 슬롯별 마지막 변경 버전 사본
+ * @param availableSeatsJson 예매 가능 좌석 목록(SeatListResponse) JSON
+ * @param bitmap 점유 비트맵 (슬롯 i = byte[i / 8]의 (i % 8)번째 비트, 1 = 점유)
+ */
+public record SeatMapSnapshot(
+        long version,
+        long builtAt,
+        SeatInventory inventory,
+        long[] occupancy,
+        long[] changedAt,
+        byte[] availableSeatsJson,
+        byte[] bitmap
+) {
+    public boolean isOccupied(int slot) {
+        return (occupancy[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    public int size() {
+        return changedAt.length;
+    }
+}
@@ -0,0 +1,144 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.dto.request.SeatLayoutRequest;
+import com.study.ticket.domain.dto.response.SeatProvisioningResponse;
+import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 회차 좌석 일괄 생성
+ * Seat.id가 IDENTITY라 JPA saveAll은 좌석마다 INSERT 왕복이 발생하므로 JDBC로 직접 적재한다.
+ * [구현 로직]
+ * 1. 배치를 검증하고, 회차 행을 FOR UPDATE로 잠근 뒤 좌석이 이미 있으면 거부.
+ *    같은 회차에 대한 동시 요청은 회차 행 잠금으로 직렬화되고, (concert_option_id, seat_number) 유니크 인덱스가 최종 방어선.
+ * 2. chunk-size개씩 다중 VALUES INSERT 한 구문으로 적재 (전체를 한 트랜잭션으로 처리).
+ * 3. 커밋 후 회차 인벤토리와 좌석 현황 스냅샷을 미리 만들어 첫 조회가 DB를 타지 않도록 함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatProvisioner {
+
+    private static final String INSERT_PREFIX = "insert into seat (seat_number, concert_option_id, price, seat_status) values ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?)";
+    private static final String LOCK_OPTION = "select concert_option_id from concert_option where concert_option_id = ? for update";
+    private static final String EXISTS_SEAT = "select exists(select 1 from seat where concert_option_id = ?)";
+    private static final int MAX_SEATS = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatInventoryManager seatInventoryManager;
+    private final SeatMapService seatMapService;
+
+    @Value("${ticket.seat-provisioning.chunk-size:1000}")
+    private int chunkSize;
+
+    @PostConstruct
+    void validate() {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("ticket.seat-provisioning.chunk-size must be positive: " + chunkSize);
+        }
+    }
+
+    public SeatProvisioningResponse provision(Long concertOptionId, SeatLayoutRequest layout) {
+        List<PendingSeat> seats = expand(layout);
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcTemplate.queryForList(LOCK_OPTION, Long.class, concertOptionId).isEmpty()) {
+                throw new CustomException(ExceptionCode.CONCERT_OPTION_NOT_FOUND);
+            }
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SEAT, Boolean.class, concertOptionId))) {
+                throw new CustomException(ExceptionCode.SEATS_ALREADY_PROVISIONED);
+            }
+            String fullChunkSql = insertSql(chunkSize);
+            for (int from = 0; from < seats.size(); from += chunkSize) {
+                List<PendingSeat> chunk = seats.subList(from, Math.min(from + chunkSize, seats.size()));
+                String sql = chunk.size() == chunkSize ? fullChunkSql : insertSql(chunk.size());
+                jdbcTemplate.update(sql, ps -> bind(ps, chunk, concertOptionId));
+            }
+        });
+        long insertedNanos = System.nanoTime() - startedAt;
+
+        seatInventoryManager.rebuild(concertOptionId);
+        seatMapService.snapshot(concertOptionId);
+
+        long elapsedMillis = Math.max(1, insertedNanos / 1_000_000);
+        long rowsPerSecond = seats.size() * 1_000L / elapsedMillis;
+        log.info("좌석 일괄 생성 완료: concertOptionId={}, {}석, {}ms ({} rows/s)",
+                concertOptionId, seats.size(), elapsedMillis, rowsPerSecond);
+        return new SeatProvisioningResponse(concertOptionId, seats.size(), elapsedMillis, rowsPerSecond);
+    }
+
+    private List<PendingSeat> expand(SeatLayoutRequest layout) {
+        if (layout == null || layout.sections() == null || layout.sections().isEmpty()) {
+            throw new CustomException(ExceptionCode.ILLEGAL_SEAT_LAYOUT);
+        }
+        long total = 0;
+        Set<String> names = new HashSet<>();
+        for (SeatLayoutRequest.Section section : layout.sections()) {
+            if (section.name() == null || section.name().isBlank() || section.rows() <= 0
+                    || section.seatsPerRow() <= 0 || section.price() == null || section.price() < 0) {
+                throw new CustomException(ExceptionCode.ILLEGAL_SEAT_LAYOUT);
+            }
+            // 구역 이름이 겹치면 좌석 번호가 중복됨
+            if (!names.add(section.name())) {
+                throw new CustomException(ExceptionCode.ILLEGAL_SEAT_LAYOUT);
+            }
+            total += (long) section.rows() * section.seatsPerRow();
+        }
+        if (total > MAX_SEATS) {
+            throw new CustomException(ExceptionCode.ILLEGAL_SEAT_LAYOUT);
+        }
+
+        List<PendingSeat> seats = new ArrayList<>((int) total);
+        for (SeatLayoutRequest.Section section : layout.sections()) {
+            for (int row = 1; row <= section.rows(); row++) {
+                for (int number = 1; number <= section.seatsPerRow(); number++) {
+                    seats.add(new PendingSeat(section.name() + "-" + row + "-" + number, section.price()));
+                }
+            }
+        }
+        return seats;
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (VALUES_ROW.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(VALUES_ROW);
+        }
+        return sql.toString();
+    }
+
+    private static void bind(PreparedStatement ps, List<PendingSeat> chunk, Long concertOptionId) throws SQLException {
+        int index = 1;
+        for (PendingSeat seat : chunk) {
+            ps.setString(index++, seat.seatNumber());
+            ps.setLong(index++, concertOptionId);
+            ps.setLong(index++, seat.price());
+            ps.setString(index++, SeatStatus.AVAILABLE.name());
+        }
+    }
+
+    private record PendingSeat(String seatNumber, Long price) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.study.ticket.domain.payment;
+
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.domain.constant.PointTransactionType;
+import com.study.ticket.domain.constant.ReservationStatus;
+import com.study.ticket.domain.service.WaitingQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 구문 3개로 끝나는 결제 방식
+ * [구현 로직]
+ * 1. SELECT: 예약 + 좌석(회차, 가격)을 조인 조회 후 소유자/상태/활성 세션/가격 지정 여부 검증.
+ * 2. INSERT IGNORE: 포인트 원장 기록 (같은 예약의 결제가 이미 기록됐으면 0건 -> 중복 요청으로 간주).
+ * 3. UPDATE reservation JOIN seat JOIN users: 예약 PAID, 좌석 SOLD, 잔액 차감을 한 구문으로 처리.
+ *    예약이 아직 NOT_PAID이고 잔액이 충분할 때만 반영되며, 아니면 예외로 원장 기록까지 롤백.
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 flush/dirty checking 비용이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.payment.mode", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcPaymentProcessor implements PaymentProcessor {
+
+    private static final String SELECT_RESERVATION = """
+            select r.user_id, r.reservation_status, s.concert_option_id, s.price
+            from reservation r join seat s on s.seat_id = r.seat_id
+            where r.reservation_id = ?""";
+
+    private static final String INSERT_LEDGER = """
+            insert ignore into point_transaction (user_id, amount, transaction_type, idempotency_key, created_at)
+            values (?, ?, ?, ?, now(6))""";
+
+    private static final String CONFIRM_PAYMENT = """
+            update reservation r
+                join seat s on s.seat_id = r.seat_id
+                join users u on u.user_id = r.user_id
+            set r.reservation_status = 'PAID',
+                s.seat_status = 'SOLD',
+                u.points = u.points - s.price
+            where r.reservation_id = ?
+              and r.reservation_status = 'NOT_PAID'
+              and u.points >= s.price""";
+
+    private static final String SELECT_STATUS = "select reservation_status from reservation where reservation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WaitingQueueService waitingQueueService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public PaymentResult pay(Long reservationId, Long userId) {
+        return transactionTemplate.execute(status -> {
+            List<PendingPayment> found = jdbcTemplate.query(SELECT_RESERVATION,
+                    (rs, rowNum) -> new PendingPayment(rs.getLong(1), ReservationStatus.valueOf(rs.getString(2)),
+                            rs.getLong(3), rs.getObject(4, Long.class)),
+                    reservationId);
+            if (found.isEmpty() || !found.get(0).userId().equals(userId)) {
+                throw new CustomException(ExceptionCode.RESERVATION_NOT_FOUND);
+            }
+            PendingPayment payment = found.get(0);
+            if (payment.status() == ReservationStatus.PAID) {
+                return PaymentResult.ALREADY_PAID;
+            }
+            if (payment.status() != ReservationStatus.NOT_PAID) {
+                throw new CustomException(ExceptionCode.RESERVATION_EXPIRED);
+            }
+            if (!waitingQueueService.isActive(payment.concertOptionId(), userId)) {
+                throw new CustomException(ExceptionCode.QUEUE_SESSION_EXPIRED);
+            }
+            // 가격이 NULL이면 잔액 비교가 항상 거짓이 되어 잔액 부족으로 오인되므로 먼저 거절
+            if (payment.price() == null) {
+                throw new CustomException(ExceptionCode.SEAT_PRICE_NOT_SET);
+            }
+
+            int recorded = jdbcTemplate.update(INSERT_LEDGER, userId, -payment.price(),
+                    PointTransactionType.USE.name(), PaymentProcessor.idempotencyKey(reservationId));
+            if (recorded == 0) {
+                return PaymentResult.ALREADY_PAID;
+            }
+
+            if (jdbcTemplate.update(CONFIRM_PAYMENT, reservationId) == 0) {
+                throw new CustomException(currentStatus(reservationId) == ReservationStatus.NOT_PAID
+                        ? ExceptionCode.NOT_ENOUGH_POINTS
+                        : ExceptionCode.RESERVATION_EXPIRED);
+            }
+            return PaymentResult.PAID;
+        });
+    }
+
+    private ReservationStatus currentStatus(Long reservationId) {
+        return ReservationStatus.valueOf(jdbcTemplate.queryForObject(SELECT_STATUS, String.class, reservationId));
+    }
+
+    private record PendingPayment(Long userId, ReservationStatus status, Long concertOptionId, Long price) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.ticket.domain.payment;
+
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.domain.Entity.Reservation;
+import com.study.ticket.domain.Entity.Seat;
+import com.study.ticket.domain.constant.ReservationStatus;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.repository.ReservationRepository;
+import com.study.ticket.domain.repository.SeatRepository;
+import com.study.ticket.domain.service.PointLedger;
+import com.study.ticket.domain.service.WaitingQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 리포지토리 메서드를 차례로 호출하는 결제 방식
+ * (예약 조회 -> 좌석 조회 -> 원장 INSERT -> 잔액 UPDATE -> 예약 UPDATE -> 좌석 UPDATE)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticket.payment.mode", havingValue = "jpa")
+public class JpaPaymentProcessor implements PaymentProcessor {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final WaitingQueueService waitingQueueService;
+    private final PointLedger pointLedger;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public PaymentResult pay(Long reservationId, Long userId) {
+        return transactionTemplate.execute(status -> {
+            Reservation reservation = reservationRepository.findById(reservationId)
+                    .filter(found -> found.getUserId().equals(userId))
+                    .orElseThrow(() -> new CustomException(ExceptionCode.RESERVATION_NOT_FOUND));
+            if (reservation.getStatus() == ReservationStatus.PAID) {
+                return PaymentResult.ALREADY_PAID;
+            }
+            if (reservation.getStatus() != ReservationStatus.NOT_PAID) {
+                throw new CustomException(ExceptionCode.RESERVATION_EXPIRED);
+            }
+
+            Seat seat = seatRepository.findById(reservation.getSeatId())
+                    .orElseThrow(() -> new CustomException(ExceptionCode.SEAT_NOT_FOUND));
+            if (!waitingQueueService.isActive(seat.getConcertOptionId(), userId)) {
+                throw new CustomException(ExceptionCode.QUEUE_SESSION_EXPIRED);
+            }
+            if (seat.getPrice() == null) {
+                throw new CustomException(ExceptionCode.SEAT_PRICE_NOT_SET);
+            }
+
+            if (!pointLedger.use(userId, seat.getPrice(), PaymentProcessor.idempotencyKey(reservationId))) {
+                return PaymentResult.ALREADY_PAID;
+            }
+            if (reservationRepository.updateStatusIf(reservationId, ReservationStatus.NOT_PAID, ReservationStatus.PAID) == 0) {
+                throw new CustomException(ExceptionCode.RESERVATION_EXPIRED);
+            }
+            seatRepository.updateStatusIf(List.of(seat.getId()), SeatStatus.RESERVED, SeatStatus.SOLD);
+            return PaymentResult.PAID;
+        });
+    }
+}
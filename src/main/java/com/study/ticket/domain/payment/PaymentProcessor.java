@@ -0,0 +1,17 @@
+package com.study.ticket.domain.payment;
+
+/**
+ * 결제 처리 방식
+ * 'ticket.payment.mode' 프로퍼티로 구현체를 선택한다.
+ * - jdbc : 조회 1회 + 원장 INSERT + 다중 테이블 UPDATE 1회로 끝나는 구문 묶음 (기본값)
+ * - jpa  : 엔티티 조회 후 리포지토리 메서드를 차례로 호출하는 방식 (비교용)
+ * 공통 처리: 예약 소유자/활성 세션 검증, 포인트 차감(원장 기록), 예약 PAID, 좌석 SOLD.
+ */
+public interface PaymentProcessor {
+
+    PaymentResult pay(Long reservationId, Long userId);
+
+    static String idempotencyKey(Long reservationId) {
+        return "payment:" + reservationId;
+    }
+}
@@ -0,0 +1,9 @@
+package com.study.ticket.domain.payment;
+
+/**
+ * 결제 처리 결과 (실패는 CustomException으로 전달)
+ */
+public enum PaymentResult {
+    PAID,
+    ALREADY_PAID
+}
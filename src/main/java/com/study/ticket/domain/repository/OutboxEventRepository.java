@@ -0,0 +1,22 @@
+package com.study.ticket.domain.repository;
+
+import com.study.ticket.domain.Entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.study.ticket.domain.repository;
+
+import com.study.ticket.domain.Entity.PointTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
+
+    /**
+     * 원장 기록 (같은 idempotency_key가 이미 있으면 무시하고 0 반환)
+     */
+    @Modifying
+    @Query(value = "insert ignore into point_transaction (user_id, amount, transaction_type, idempotency_key, created_at) " +
+            "values (:userId, :amount, :type, :idempotencyKey, now(6))", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("amount") Long amount,
+                     @Param("type") String type,
+                     @Param("idempotencyKey") String idempotencyKey);
+}
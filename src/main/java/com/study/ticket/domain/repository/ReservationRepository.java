@@ -1,7 +1,48 @@
 package com.study.ticket.domain.repository;
 
 import com.study.ticket.domain.Entity.Reservation;
+import com.study.ticket.domain.constant.ReservationStatus;
+import com.study.ticket.domain.dto.response.SeatResponse;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    @Query("select r from Reservation r join Seat s on s.id = r.seatId " +
+            "where s.concertOptionId = :concertOptionId and r.status in :statuses")
+    List<Reservation> findAllByConcertOptionIdAndStatusIn(@Param("concertOptionId") Long concertOptionId,
+                                                          @Param("statuses") Collection<ReservationStatus> statuses);
+
+    /**
+     * 유저의 예약 좌석을 응답 DTO로 바로 조회 (reservation.user_id 인덱스 -> seat PK 조인, 엔티티 생성 없음)
+     */
+    @Query("select new com.study.ticket.domain.dto.response.SeatResponse(s.id, s.seatNumber, s.status) " +
+            "from Reservation r join Seat s on s.id = r.seatId " +
+            "where r.userId = :userId and r.status in :statuses order by r.id desc")
+    List<SeatResponse> findSeatsByUserIdAndStatusIn(@Param("userId") Long userId,
+                                                    @Param("statuses") Collection<ReservationStatus> statuses);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.id in :ids and r.status = :status")
+    List<Reservation> findAllForUpdateByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                      @Param("status") ReservationStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :status where r.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
+
+    /**
+     * 현재 상태가 expected일 때만 상태 변경 (만료 처리와 동시에 실행되어도 둘 중 하나만 성공)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :status where r.id = :id and r.status = :expected")
+    int updateStatusIf(@Param("id") Long id, @Param("expected") ReservationStatus expected,
+                       @Param("status") ReservationStatus status);
 }
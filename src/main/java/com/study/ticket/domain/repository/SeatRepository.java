@@ -1,7 +1,26 @@
 package com.study.ticket.domain.repository;
 
 import com.study.ticket.domain.Entity.Seat;
+import com.study.ticket.domain.constant.SeatStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface SeatRepository extends JpaRepository<Seat, Long> {
+
+    List<Seat> findAllByConcertOptionId(Long concertOptionId);
+
+    /**
+     * 현재 상태가 expected인 좌석만 상태 변경
+     * 좌석 인벤토리는 노드 로컬이므로 여러 노드가 같은 좌석을 동시에 예약해도 한 트랜잭션만 행을 바꾼다.
+     * @return 변경된 행 수 (seatIds 크기보다 작으면 이미 다른 상태로 바뀐 좌석이 있음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Seat s set s.status = :status where s.id in :seatIds and s.status = :expected")
+    int updateStatusIf(@Param("seatIds") Collection<Long> seatIds, @Param("expected") SeatStatus expected,
+                       @Param("status") SeatStatus status);
 }
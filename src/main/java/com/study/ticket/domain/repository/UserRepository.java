@@ -2,6 +2,25 @@ package com.study.ticket.domain.repository;
 
 import com.study.ticket.domain.Entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    @Query("select u.points from User u where u.id = :userId")
+    Optional<Long> findPointsById(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.points = u.points + :amount where u.id = :userId")
+    int addPoints(@Param("userId") Long userId, @Param("amount") Long amount);
+
+    /**
+     * 잔액이 충분할 때만 차감 (부족하거나 유저가 없으면 0 반환)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.points = u.points - :amount where u.id = :userId and u.points >= :amount")
+    int deductPoints(@Param("userId") Long userId, @Param("amount") Long amount);
 }
@@ -0,0 +1,349 @@
+package com.study.ticket.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.ticket.common.admission.AdmissionClaims;
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.common.redis.RedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 활성 세션 저장소 (Redis 활성 세션 키 + 노드 로컬 기록)
+ * [구현 로직]
+ * 1. 세션 확인: 검증된 입장 토큰이나 Redis PTTL로 알게 된 만료 시각을 로컬에 기록해 두고, 만료 전이면 Redis를 거치지 않는다.
+ *    기록이 없으면 PTTL 1회로 확인한다. (활성이 아니라는 결과는 곧 입장할 수 있으므로 기록하지 않음)
+ * 2. 세션 종료: 세션 키를 지우고 pub/sub으로 모든 노드에 종료 시각을 알린다.
+ *    각 노드는 종료 시각을 세션 유효 시간(토큰 최대 수명)만큼 들고 있다가 그 전에 발급된 토큰과 로컬 기록을 무효로 본다.
+ * 3. 세션 연장: 요청을 extend-flush-ms 동안 모아 session_extend.lua를 파이프라인 한 번으로 실행한다.
+ *    스크립트는 EVALSHA로 보내고, 서버에 캐시가 없으면(NOSCRIPT) 적재한 뒤 한 번 다시 실행한다.
+ *    연장 횟수 제한은 기존처럼 Redis 카운터가 판단하고, 호출 스레드는 자기 세션의 결과가 나올 때까지 기다린다.
+ *    한 주기 안에 같은 세션의 연장이 여러 번 오면(중복 클릭) 한 번만 실행하고 결과를 함께 받는다.
+ *    횟수를 다 쓴 세션은 로컬에 기록해 두고 이후 요청은 Redis 없이 거절한다.
+ *    flush는 전용 스레드에서 돌려 공용 @Scheduled 스레드의 다른 작업에 밀려 지연되지 않게 하고,
+ *    그래도 응답이 늦거나 Redis 호출이 실패하면 503(SESSION_EXTENSION_UNAVAILABLE)으로 응답한다.
+ * [메트릭]
+ * queue.session.lookup{source=local|redis}, queue.session.extend.batch.size
+ */
+@Slf4j
+@Component
+public class ActiveSessionStore {
+
+    private static final RedisScript<Long> EXTEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/session_extend.lua"), Long.class);
+    private static final long EXTEND_TIMEOUT_MILLIS = 3_000L;
+    private static final long NO_SESSION = -1L;
+    private static final long LIMIT_EXCEEDED = -2L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final QueueProperties queueProperties;
+    private final byte[] extendScript;
+    private final String extendScriptSha;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("session-extend-flusher").daemon().factory());
+
+    private final Cache<SessionKey, Long> expiresAt;
+    private final Cache<SessionKey, Long> revokedAt;
+    private final Cache<SessionKey, Boolean> exhausted;
+    private final Map<SessionKey, CompletableFuture<Long>> pendingExtensions = new ConcurrentHashMap<>();
+
+    private final Counter localLookupCounter;
+    private final Counter redisLookupCounter;
+    private final DistributionSummary extendBatchSummary;
+
+    public ActiveSessionStore(StringRedisTemplate stringRedisTemplate,
+                              QueueProperties queueProperties,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${ticket.queue.session-cache-size:100000}") long cacheSize,
+                              @Value("${ticket.queue.extend-flush-ms:20}") long flushIntervalMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.queueProperties = queueProperties;
+        this.extendScript = EXTEND_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        this.extendScriptSha = EXTEND_SCRIPT.getSha1();
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        this.expiresAt = Caffeine.newBuilder()
+                .expireAfterWrite(queueProperties.sessionTtl())
+                .maximumSize(cacheSize)
+                .build();
+        this.revokedAt = Caffeine.newBuilder()
+                .expireAfterWrite(queueProperties.sessionTtl())
+                .maximumSize(cacheSize)
+                .build();
+        // 연장 카운터(Redis)는 이보다 오래 남으므로 로컬 거절이 Redis 판단과 어긋나지 않음
+        this.exhausted = Caffeine.newBuilder()
+                .expireAfterWrite(queueProperties.sessionTtl())
+                .maximumSize(cacheSize)
+                .build();
+
+        this.localLookupCounter = Counter.builder("queue.session.lookup")
+                .description("활성 세션 확인 횟수 (local = Redis 호출 없이 판단)")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.redisLookupCounter = Counter.builder("queue.session.lookup")
+                .description("활성 세션 확인 횟수 (local = Redis 호출 없이 판단)")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        this.extendBatchSummary = DistributionSummary.builder("queue.session.extend.batch.size")
+                .description("파이프라인 1회로 처리한 세션 연장 건수")
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onRevoked(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RedisKeys.sessionRevocationChannel()));
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flushExtensions();
+            } catch (RuntimeException e) {
+                log.error("세션 연장 flush 실패", e);
+            }
+        }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdownNow();
+    }
+
+    /**
+     * 활성 세션 보유 여부 확인
+     */
+    public boolean isActive(Long concertOptionId, Long userId) {
+        return findExpiresAt(concertOptionId, userId) != null;
+    }
+
+    /**
+     * 활성 세션 만료 시각 (epoch ms)
+     * @return 활성 세션이 없으면 null
+     */
+    public Long findExpiresAt(Long concertOptionId, Long userId) {
+        SessionKey key = new SessionKey(concertOptionId, userId);
+        long now = System.currentTimeMillis();
+        Long cached = expiresAt.getIfPresent(key);
+        if (cached != null && cached > now) {
+            localLookupCounter.increment();
+            return cached;
+        }
+
+        redisLookupCounter.increment();
+        Long ttlMillis = stringRedisTemplate.getExpire(RedisKeys.activeSession(concertOptionId, userId), TimeUnit.MILLISECONDS);
+        return toExpiresAt(key, ttlMillis, now);
+    }
+
+    /**
+     * PTTL 결과를 만료 시각으로 바꾸고 로컬에 기록 (파이프라인으로 여러 세션을 조회한 경우에도 사용)
+     * @param ttlMillis PTTL 결과 (-2 = 키 없음, -1 = 만료 없음)
+     * @return 활성 세션이 없으면 null
+     */
+    public Long toExpiresAt(Long concertOptionId, Long userId, Long ttlMillis, long now) {
+        return toExpiresAt(new SessionKey(concertOptionId, userId), ttlMillis, now);
+    }
+
+    /**
+     * 검증된 입장 토큰의 만료 시각을 로컬에 기록
+     * @return 종료된 세션의 토큰이면 false (기록하지 않음)
+     */
+    public boolean remember(AdmissionClaims claims) {
+        SessionKey key = new SessionKey(claims.concertOptionId(), claims.userId());
+        Long revoked = revokedAt.getIfPresent(key);
+        if (revoked != null && claims.expiresAt() - queueProperties.sessionTtl().toMillis() <= revoked) {
+            return false;
+        }
+        record(key, claims.expiresAt());
+        return true;
+    }
+
+    /**
+     * 활성 세션 연장 (다음 flush 주기에 다른 연장 요청과 함께 처리)
+     * @return 연장된 세션 만료 시각 (epoch ms, Redis에 반영된 시각보다 이르거나 같음)
+     */
+    public long extend(Long concertOptionId, Long userId) {
+        SessionKey key = new SessionKey(concertOptionId, userId);
+        if (exhausted.getIfPresent(key) != null) {
+            throw new CustomException(ExceptionCode.SESSION_EXTENSION_LIMIT_EXCEEDED);
+        }
+
+        long requestedAt = System.currentTimeMillis();
+        CompletableFuture<Long> pending = pendingExtensions.computeIfAbsent(key, k -> new CompletableFuture<>());
+        long result = await(key, pending);
+        if (result == NO_SESSION) {
+            expiresAt.invalidate(key);
+            throw new CustomException(ExceptionCode.QUEUE_SESSION_EXPIRED);
+        }
+        if (result == LIMIT_EXCEEDED) {
+            exhausted.put(key, Boolean.TRUE);
+            throw new CustomException(ExceptionCode.SESSION_EXTENSION_LIMIT_EXCEEDED);
+        }
+        long extendedUntil = requestedAt + queueProperties.sessionTtl().toMillis();
+        record(key, extendedUntil);
+        return extendedUntil;
+    }
+
+    /**
+     * 활성 세션 종료 (다른 노드의 로컬 기록과 이미 발급된 입장 토큰도 무효화)
+     */
+    public void revoke(Long concertOptionId, Long userId) {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.delete(RedisKeys.activeSession(concertOptionId, userId));
+        stringRedisTemplate.opsForZSet().remove(RedisKeys.activeSessions(concertOptionId), String.valueOf(userId));
+        applyRevocation(new SessionKey(concertOptionId, userId), now);
+        stringRedisTemplate.convertAndSend(RedisKeys.sessionRevocationChannel(), concertOptionId + ":" + userId + ":" + now);
+    }
+
+    /**
+     * 모아 둔 연장 요청을 session_extend.lua(EVALSHA) 파이프라인 1회로 처리하고 대기 중인 호출 스레드에 결과 전달 (flusher 스레드 전용)
+     */
+    void flushExtensions() {
+        if (pendingExtensions.isEmpty()) {
+            return;
+        }
+        List<SessionKey> keys = new ArrayList<>();
+        List<CompletableFuture<Long>> waiters = new ArrayList<>();
+        for (SessionKey key : pendingExtensions.keySet()) {
+            CompletableFuture<Long> pending = pendingExtensions.remove(key);
+            if (pending != null) {
+                keys.add(key);
+                waiters.add(pending);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        extendBatchSummary.record(keys.size());
+
+        byte[] now = bytes(String.valueOf(System.currentTimeMillis()));
+        byte[] ttl = bytes(String.valueOf(queueProperties.sessionTtl().toMillis()));
+        byte[] limit = bytes(String.valueOf(queueProperties.extensionLimit()));
+        try {
+            List<Object> results;
+            try {
+                results = evalExtensions(keys, now, ttl, limit);
+            } catch (RuntimeException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                // 스크립트 캐시가 비어 있으면(재시작/SCRIPT FLUSH) 한 번 적재하고 다시 실행 (NOSCRIPT면 실행되지 않았으므로 재실행해도 안전)
+                stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(extendScript));
+                results = evalExtensions(keys, now, ttl, limit);
+            }
+            for (int i = 0; i < waiters.size(); i++) {
+                waiters.get(i).complete(((Number) results.get(i)).longValue());
+            }
+        } catch (RuntimeException e) {
+            log.error("세션 연장 일괄 처리 실패: count={}", keys.size(), e);
+            waiters.forEach(waiter -> waiter.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * session_extend.lua를 EVALSHA로 파이프라인 실행 (스크립트 본문은 보내지 않음)
+     */
+    private List<Object> evalExtensions(List<SessionKey> keys, byte[] now, byte[] ttl, byte[] limit) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SessionKey key : keys) {
+                connection.scriptingCommands().evalSha(extendScriptSha, ReturnType.INTEGER, 3,
+                        bytes(RedisKeys.activeSession(key.concertOptionId(), key.userId())),
+                        bytes(RedisKeys.sessionExtension(key.concertOptionId(), key.userId())),
+                        bytes(RedisKeys.activeSessions(key.concertOptionId())),
+                        bytes(String.valueOf(key.userId())), now, ttl, limit);
+            }
+            return null;
+        });
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 연장 결과 대기 (지연/실패는 재시도할 수 있는 503으로 응답하고 원인을 cause로 남김)
+     */
+    private long await(SessionKey key, CompletableFuture<Long> pending) {
+        try {
+            return pending.get(EXTEND_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ExceptionCode.SESSION_EXTENSION_UNAVAILABLE, e);
+        } catch (ExecutionException e) {
+            throw new CustomException(ExceptionCode.SESSION_EXTENSION_UNAVAILABLE, e.getCause());
+        } catch (TimeoutException e) {
+            pendingExtensions.remove(key, pending);
+            log.warn("세션 연장 응답 지연: {}", key);
+            throw new CustomException(ExceptionCode.SESSION_EXTENSION_UNAVAILABLE, e);
+        }
+    }
+
+    private Long toExpiresAt(SessionKey key, Long ttlMillis, long now) {
+        if (ttlMillis == null || ttlMillis == -2L) {
+            return null;
+        }
+        if (ttlMillis == -1L) {
+            return now + queueProperties.sessionTtl().toMillis();
+        }
+        long expiry = now + ttlMillis;
+        record(key, expiry);
+        return expiry;
+    }
+
+    private void record(SessionKey key, long expiry) {
+        expiresAt.asMap().merge(key, expiry, Math::max);
+    }
+
+    private void onRevoked(String message) {
+        String[] parts = message.split(":");
+        if (parts.length != 3) {
+            log.warn("알 수 없는 세션 종료 메시지: {}", message);
+            return;
+        }
+        applyRevocation(new SessionKey(Long.valueOf(parts[0]), Long.valueOf(parts[1])), Long.parseLong(parts[2]));
+    }
+
+    private void applyRevocation(SessionKey key, long at) {
+        revokedAt.asMap().merge(key, at, Math::max);
+        expiresAt.invalidate(key);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record SessionKey(Long concertOptionId, Long userId) {
+    }
+}
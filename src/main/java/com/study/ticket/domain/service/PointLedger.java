@@ -0,0 +1,59 @@
+package com.study.ticket.domain.service;
+
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.domain.constant.PointTransactionType;
+import com.study.ticket.domain.repository.PointTransactionRepository;
+import com.study.ticket.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 원장 + 잔액 관리
+ * [구현 로직]
+ * 1. 원장(point_transaction)에 idempotency key와 함께 INSERT IGNORE (중복 요청이면 아무것도 하지 않음).
+ * 2. 잔액은 조건부 UPDATE 한 번으로 변경 (users.points = points - ? WHERE points >= ?).
+ *    읽고-수정-쓰기가 없으므로 비관적 락 없이도 갱신 손실이 생기지 않는다.
+ * 3. 잔액 변경이 실패하면 예외로 트랜잭션을 롤백하여 원장 기록도 함께 취소.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointLedger {
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 포인트 충전
+     * @return 충전 후 잔액 (중복 요청이면 현재 잔액)
+     */
+    @Transactional
+    public Long charge(Long userId, Long amount, String idempotencyKey) {
+        if (amount == null || amount <= 0) {
+            throw new CustomException(ExceptionCode.ILLEGAL_POINTS);
+        }
+        if (pointTransactionRepository.insertIgnore(userId, amount, PointTransactionType.CHARGE.name(), idempotencyKey) == 1
+                && userRepository.addPoints(userId, amount) == 0) {
+            throw new CustomException(ExceptionCode.USER_NOT_FOUND);
+        }
+        return userRepository.findPointsById(userId)
+                .orElseThrow(() -> new CustomException(ExceptionCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 포인트 사용 (호출한 트랜잭션에 참여)
+     * @return 이번 호출에서 차감했으면 true, 같은 idempotency key로 이미 차감된 경우 false
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean use(Long userId, Long amount, String idempotencyKey) {
+        if (pointTransactionRepository.insertIgnore(userId, -amount, PointTransactionType.USE.name(), idempotencyKey) == 0) {
+            return false;
+        }
+        if (userRepository.deductPoints(userId, amount) == 0) {
+            throw new CustomException(ExceptionCode.NOT_ENOUGH_POINTS);
+        }
+        return true;
+    }
+}
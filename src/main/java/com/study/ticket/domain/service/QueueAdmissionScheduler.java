@@ -0,0 +1,28 @@
+package com.study.ticket.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 인원이 있는 회차를 순회하며 주기적으로 입장 처리를 수행하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueAdmissionScheduler {
+
+    private final WaitingQueueService waitingQueueService;
+
+    @Scheduled(fixedDelayString = "${ticket.queue.promote-interval-ms:1000}")
+    public void promote() {
+        for (Long concertOptionId : waitingQueueService.findWaitingOptionIds()) {
+            try {
+                waitingQueueService.promoteToActive(concertOptionId);
+            } catch (RuntimeException e) {
+                log.error("대기열 입장 처리 실패: concertOptionId={}", concertOptionId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.study.ticket.domain.service;
+
+import com.study.ticket.common.admission.AdmissionTokenCodec;
+import com.study.ticket.common.redis.RedisKeys;
+import com.study.ticket.domain.dto.response.QueueStatusResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회차별 SSE 구독자에게 대기 순번을 일괄 전송하는 컴포넌트
+ * [구현 로직]
+ * 1. 틱마다 회차 대기열의 선두 exactHeadSize명(샤드가 여러 개면 병합)을 한 번만 읽어 이 노드 구독자들의 순번을 계산.
+ *    그 뒤 구독자는 구독 시점에 받아 둔 진입 시각으로, 추정 모드면 순번을 추정하고 (Redis 호출 없음)
+ *    아니면 정확한 순번을 파이프라인 1회로 계산 (대기열 전체를 읽지 않음).
+ * 2. 직전에 보낸 순번과 달라진 구독자에게만 'rank' 이벤트 전송 (예상 대기 시간 포함).
+ * 3. 대기열에서 빠진 구독자는 활성 세션 키를 파이프라인으로 확인해 'enter' 이벤트(입장 토큰 포함) 전송 후 종료.
+ *    입장 토큰은 대기 중에 구독한 스트림에만 담는다. 이미 활성 세션이 있는 userId로 새로 구독해 토큰을 받아 가지 못하도록.
+ * 4. 이벤트 전송은 가상 스레드에서 수행하여 열린 스트림이 플랫폼 스레드를 점유하지 않음.
+ *    같은 구독자의 전송은 앞선 전송이 끝난 뒤 이어 붙여 실행하므로 순서가 바뀌거나 동시에 쓰지 않고,
+ *    스트림을 닫는 이벤트('enter', 'expired') 뒤의 전송은 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueBroadcaster {
+
+    private static final String RANK_EVENT = "rank";
+    private static final String ENTER_EVENT = "enter";
+    private static final String EXPIRED_EVENT = "expired";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WaitingQueueService waitingQueueService;
+    private final QueueRankEstimator queueRankEstimator;
+    private final QueueProperties queueProperties;
+    private final AdmissionTokenCodec admissionTokenCodec;
+    private final ActiveSessionStore activeSessionStore;
+
+    private final Map<Long, Map<Long, Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 구독자 등록 (같은 유저의 기존 스트림은 종료)
+     */
+    public SseEmitter subscribe(Long concertOptionId, Long userId) {
+        SseEmitter emitter = new SseEmitter(queueProperties.sseTimeout().toMillis());
+        Double enteredAt = waitingQueueService.findEnteredAt(concertOptionId, userId);
+        Subscriber subscriber = new Subscriber(emitter, enteredAt == null ? Double.NaN : enteredAt);
+
+        // 등록과 제거를 회차 항목 단위로 원자적으로 처리 (제거로 비워진 맵에 등록되어 순회에서 빠지지 않도록)
+        Subscriber[] previous = new Subscriber[1];
+        subscribers.compute(concertOptionId, (id, current) -> {
+            Map<Long, Subscriber> optionSubscribers = current != null ? current : new ConcurrentHashMap<>();
+            previous[0] = optionSubscribers.put(userId, subscriber);
+            return optionSubscribers;
+        });
+        if (previous[0] != null) {
+            previous[0].emitter.complete();
+        }
+
+        // 구독자가 모두 떠난 회차는 맵에서 지워 순회 대상에서 제외
+        Runnable remove = () -> subscribers.computeIfPresent(concertOptionId, (id, current) -> {
+            current.remove(userId, subscriber);
+            return current.isEmpty() ? null : current;
+        });
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.queue.broadcast-interval-ms:1000}")
+    public void broadcast() {
+        subscribers.forEach((concertOptionId, optionSubscribers) -> {
+            if (optionSubscribers.isEmpty()) {
+                return;
+            }
+            try {
+                broadcast(concertOptionId, optionSubscribers);
+            } catch (RuntimeException e) {
+                log.error("대기 순번 전송 실패: concertOptionId={}", concertOptionId, e);
+            }
+        });
+    }
+
+    private void broadcast(Long concertOptionId, Map<Long, Subscriber> optionSubscribers) {
+        long tick = System.nanoTime();
+        int headSize = queueProperties.exactHeadSize();
+        List<WaitingQueueService.WaitingUser> head = waitingQueueService.findWaitingHead(concertOptionId, headSize);
+
+        long rank = 0;
+        for (WaitingQueueService.WaitingUser waiting : head) {
+            rank++;
+            Subscriber subscriber = optionSubscribers.get(waiting.userId());
+            if (subscriber == null) {
+                continue;
+            }
+            subscriber.seenAt = tick;
+            sendRank(concertOptionId, subscriber, rank, false);
+        }
+
+        // 선두 밖 구독자: 마지막 선두보다 뒤에 있으면 아직 대기 중이므로 진입 시각으로 순번 계산
+        // (ZSET과 같이 진입 시각, 같으면 userId 문자열 순으로 비교해 동시각 진입자를 이탈로 오인하지 않음)
+        boolean headTruncated = headSize > 0 && head.size() == headSize;
+        if (headTruncated) {
+            WaitingQueueService.WaitingUser lastHead = head.get(head.size() - 1);
+            Map<Long, Subscriber> beyondHead = new HashMap<>();
+            optionSubscribers.forEach((userId, subscriber) -> {
+                if (subscriber.seenAt != tick && isBehind(userId, subscriber.enteredAt, lastHead)) {
+                    beyondHead.put(userId, subscriber);
+                }
+            });
+            sendBeyondHeadRanks(concertOptionId, beyondHead, headSize, tick);
+        }
+
+        List<Long> missing = new ArrayList<>();
+        optionSubscribers.forEach((userId, subscriber) -> {
+            if (subscriber.seenAt != tick && subscriber.subscribedAt < tick) {
+                missing.add(userId);
+            }
+        });
+        if (!missing.isEmpty()) {
+            notifyLeft(concertOptionId, optionSubscribers, missing);
+        }
+    }
+
+    /**
+     * 대기열 순서(진입 시각, 같으면 userId 문자열)상 lastHead보다 뒤인지 여부 (진입 시각을 모르면 false)
+     */
+    private static boolean isBehind(Long userId, double enteredAt, WaitingQueueService.WaitingUser lastHead) {
+        if (enteredAt != lastHead.enteredAt()) {
+            return enteredAt > lastHead.enteredAt();
+        }
+        return String.valueOf(userId).compareTo(String.valueOf(lastHead.userId())) > 0;
+    }
+
+    /**
+     * 선두 밖 구독자의 순번 전송 (추정 모드면 표본 인덱스로 추정, 아니면 정확한 순번을 한 번에 계산)
+     */
+    private void sendBeyondHeadRanks(Long concertOptionId, Map<Long, Subscriber> beyondHead, int headSize, long tick) {
+        if (beyondHead.isEmpty()) {
+            return;
+        }
+        long minRank = headSize + 1L;
+        if (queueProperties.estimateRank()) {
+            beyondHead.values().forEach(subscriber -> {
+                subscriber.seenAt = tick;
+                Long estimated = queueRankEstimator.estimateRank(concertOptionId, subscriber.enteredAt);
+                sendRank(concertOptionId, subscriber, estimated == null ? minRank : Math.max(minRank, estimated), true);
+            });
+            return;
+        }
+
+        List<WaitingQueueService.WaitingUser> users = new ArrayList<>(beyondHead.size());
+        beyondHead.forEach((userId, subscriber) -> users.add(new WaitingQueueService.WaitingUser(userId, subscriber.enteredAt)));
+        List<Long> ranks = waitingQueueService.findExactRanks(concertOptionId, users);
+        for (int i = 0; i < users.size(); i++) {
+            if (ranks.get(i) == null) {
+                continue;
+            }
+            Subscriber subscriber = beyondHead.get(users.get(i).userId());
+            subscriber.seenAt = tick;
+            sendRank(concertOptionId, subscriber, ranks.get(i), false);
+        }
+    }
+
+    /**
+     * 대기열에서 빠진 구독자의 활성 세션 만료 시각을 한 번의 파이프라인(PTTL)으로 확인
+     * 입장 토큰은 세션 만료 시각까지만 유효하게 발급한다.
+     */
+    private void notifyLeft(Long concertOptionId, Map<Long, Subscriber> optionSubscribers, List<Long> userIds) {
+        long now = System.currentTimeMillis();
+        List<Object> ttls = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                activeSessionTtl(connection, concertOptionId, userId);
+            }
+            return null;
+        });
+
+        for (int i = 0; i < userIds.size(); i++) {
+            Subscriber subscriber = optionSubscribers.get(userIds.get(i));
+            if (subscriber == null) {
+                continue;
+            }
+            Long expiresAt = activeSessionStore.toExpiresAt(concertOptionId, userIds.get(i), (Long) ttls.get(i), now);
+            if (expiresAt != null) {
+                String admissionToken = Double.isNaN(subscriber.enteredAt)
+                        ? null
+                        : admissionTokenCodec.issue(concertOptionId, userIds.get(i), expiresAt);
+                send(subscriber, ENTER_EVENT, QueueStatusResponse.entered(admissionToken), true);
+            } else {
+                send(subscriber, EXPIRED_EVENT, QueueStatusResponse.expired(), true);
+            }
+        }
+    }
+
+    private void sendRank(Long concertOptionId, Subscriber subscriber, long rank, boolean approximate) {
+        if (subscriber.lastRank == rank) {
+            return;
+        }
+        subscriber.lastRank = rank;
+        Long etaSeconds = queueRankEstimator.estimateWaitSeconds(concertOptionId, rank);
+        send(subscriber, RANK_EVENT, QueueStatusResponse.waiting(rank, etaSeconds, approximate), false);
+    }
+
+    private void activeSessionTtl(RedisConnection connection, Long concertOptionId, Long userId) {
+        connection.keyCommands().pTtl(RedisKeys.activeSession(concertOptionId, userId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(Subscriber subscriber, String eventName, QueueStatusResponse data, boolean complete) {
+        subscriber.enqueue(() -> {
+            try {
+                subscriber.emitter.send(SseEmitter.event().name(eventName).data(data));
+                if (complete) {
+                    subscriber.emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscriber.emitter.completeWithError(e);
+            }
+        }, complete, sendExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final double enteredAt;
+        private volatile long lastRank = -1L;
+        private final long subscribedAt = System.nanoTime();
+        private volatile long seenAt;
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private CompletableFuture<Void> lastSend = CompletableFuture.completedFuture(null);
+        private boolean closed;
+
+        private Subscriber(SseEmitter emitter, double enteredAt) {
+            this.emitter = emitter;
+            this.enteredAt = enteredAt;
+        }
+
+        /**
+         * 직전 전송이 끝난 뒤 실행되도록 이어 붙임 (직전 전송의 실패와 무관하게 실행)
+         * @param closing 스트림을 닫는 전송이면 true (이후 전송은 버림)
+         */
+        private void enqueue(Runnable task, boolean closing, ExecutorService executor) {
+            sendLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = closing;
+                lastSend = lastSend.exceptionally(e -> null).thenRunAsync(task, executor);
+            } finally {
+                sendLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.ticket.domain.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 대기열 설정
+ * @param sessionTtl 활성 세션 유효 시간
+ * @param waitTtl 대기 상태 키 유효 시간 (대기 중 이탈 대비)
+ * @param extensionLimit 활성 세션 최대 연장 횟수
+ * @param maxActive 회차별 동시 활성 세션 수 기본값
+ * @param maxAdmitPerTick 스케줄러 1회 실행당 최대 입장 인원 기본값
+ * @param shards 회차 대기열을 나눠 담을 ZSET 개수 기본값 (1 = 나누지 않음)
+ * @param options 회차별 입장 설정 (concertOptionId -> 설정)
+ * @param sseTimeout 대기 순번 SSE 스트림 최대 유지 시간
+ * @param estimateRank 대기열 선두(exactHeadSize명) 밖의 순번을 표본 인덱스로 추정할지 여부
+ * @param exactHeadSize 정확한 순번을 계산하는 선두 인원
+ * @param rankSamples 순번 추정 인덱스의 샤드당 표본 수
+ */
+@ConfigurationProperties("ticket.queue")
+public record QueueProperties(
+        @DefaultValue("10m") Duration sessionTtl,
+        @DefaultValue("30m") Duration waitTtl,
+        @DefaultValue("2") int extensionLimit,
+        @DefaultValue("1000") int maxActive,
+        @DefaultValue("200") int maxAdmitPerTick,
+        @DefaultValue("1") int shards,
+        @DefaultValue Map<Long, Admission> options,
+        @DefaultValue("30m") Duration sseTimeout,
+        @DefaultValue("true") boolean estimateRank,
+        @DefaultValue("1000") int exactHeadSize,
+        @DefaultValue("256") int rankSamples
+) {
+
+    /**
+     * 회차별 입장 설정 (지정하지 않은 값은 기본값 사용)
+     */
+    public record Admission(Integer maxActive, Integer maxAdmitPerTick, Integer shards) {}
+
+    public int maxActiveOf(Long concertOptionId) {
+        Admission admission = options.get(concertOptionId);
+        return admission != null && admission.maxActive() != null ? admission.maxActive() : maxActive;
+    }
+
+    public int maxAdmitPerTickOf(Long concertOptionId) {
+        Admission admission = options.get(concertOptionId);
+        return admission != null && admission.maxAdmitPerTick() != null ? admission.maxAdmitPerTick() : maxAdmitPerTick;
+    }
+
+    /**
+     * 회차 대기열 샤드 수 (대기 인원이 남아 있는 동안 바꾸면 기존 샤드의 유저가 입장하지 못하므로 오픈 전에 정할 것)
+     */
+    public int shardsOf(Long concertOptionId) {
+        Admission admission = options.get(concertOptionId);
+        return Math.max(1, admission != null && admission.shards() != null ? admission.shards() : shards);
+    }
+}
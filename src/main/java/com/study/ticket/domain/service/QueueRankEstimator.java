@@ -0,0 +1,208 @@
+package com.study.ticket.domain.service;
+
+import com.study.ticket.common.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 진입 시각(score)으로 대기 순번과 예상 대기 시간을 추정하는 컴포넌트
+ * [구현 로직]
+ * 1. 주기적으로 샤드마다 일정 간격의 순위 표본(ZRANGE i i WITHSCORES)을 파이프라인 1회로 읽어 score -> 순위 인덱스 생성.
+ * 2. 누적 입장 인원 카운터(queue:admitted:{optionId})의 증가량으로 초당 입장 인원을 계산 (지수 이동 평균).
+ * 3. 추정 순위 = 샤드별 보간 순위의 합 - 인덱스 생성 이후 입장했을 인원(입장 속도 x 경과 시간).
+ * 4. 예상 대기 시간 = 순위 / 초당 입장 인원.
+ * 인덱스 생성 이후 들어온 유저(마지막 표본보다 늦은 score)는 생성 시점의 마지막 순위 바로 뒤로 추정하고 다음 갱신 때 보정된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueRankEstimator {
+
+    private static final double RATE_SMOOTHING = 0.3;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final QueueProperties queueProperties;
+
+    private final Map<Long, RankIndex> indexes = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${ticket.queue.rank-index-refresh-ms:5000}")
+    public void refresh() {
+        if (!queueProperties.estimateRank()) {
+            return;
+        }
+        Set<String> members = stringRedisTemplate.opsForSet().members(RedisKeys.queueOptions());
+        Set<Long> waitingOptionIds = members == null ? Set.of()
+                : members.stream().map(Long::valueOf).collect(Collectors.toSet());
+        indexes.keySet().retainAll(waitingOptionIds);
+
+        for (Long concertOptionId : waitingOptionIds) {
+            try {
+                indexes.put(concertOptionId, build(concertOptionId, indexes.get(concertOptionId)));
+            } catch (RuntimeException e) {
+                log.error("대기 순번 인덱스 생성 실패: concertOptionId={}", concertOptionId, e);
+            }
+        }
+    }
+
+    /**
+     * @param enteredAt 유저의 대기열 진입 시각 (ZSET score)
+     * @return 추정 순위 (1부터), 인덱스가 아직 없으면 null
+     */
+    public Long estimateRank(Long concertOptionId, double enteredAt) {
+        RankIndex index = indexes.get(concertOptionId);
+        return index == null ? null : index.estimateRank(enteredAt, System.currentTimeMillis());
+    }
+
+    /**
+     * @return 예상 대기 시간(초), 입장 속도를 아직 모르면 null
+     */
+    public Long estimateWaitSeconds(Long concertOptionId, long rank) {
+        RankIndex index = indexes.get(concertOptionId);
+        return index == null ? null : index.estimateWaitSeconds(rank);
+    }
+
+    private RankIndex build(Long concertOptionId, RankIndex previous) {
+        List<String> keys = RedisKeys.waitQueues(concertOptionId, queueProperties.shardsOf(concertOptionId));
+        long now = System.currentTimeMillis();
+
+        List<Object> sizesAndAdmitted = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.zSetCommands().zCard(bytes(key));
+            }
+            connection.stringCommands().get(bytes(RedisKeys.admittedCount(concertOptionId)));
+            return null;
+        });
+        long[] sizes = new long[keys.size()];
+        for (int shard = 0; shard < keys.size(); shard++) {
+            sizes[shard] = ((Number) sizesAndAdmitted.get(shard)).longValue();
+        }
+        Object admittedValue = sizesAndAdmitted.get(keys.size());
+        long admitted = admittedValue == null ? 0L : Long.parseLong(admittedValue.toString());
+
+        int samples = Math.max(2, queueProperties.rankSamples());
+        List<Object> sampled = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int shard = 0; shard < keys.size(); shard++) {
+                for (long rank : sampleRanks(sizes[shard], samples)) {
+                    connection.zSetCommands().zRangeWithScores(bytes(keys.get(shard)), rank, rank);
+                }
+            }
+            return null;
+        });
+
+        double[][] scores = new double[keys.size()][];
+        long[][] ranks = new long[keys.size()][];
+        int cursor = 0;
+        for (int shard = 0; shard < keys.size(); shard++) {
+            long[] shardRanks = sampleRanks(sizes[shard], samples);
+            double[] shardScores = new double[shardRanks.length];
+            int filled = 0;
+            for (long rank : shardRanks) {
+                Set<?> tuples = (Set<?>) sampled.get(cursor++);
+                if (tuples == null || tuples.isEmpty()) {
+                    continue;
+                }
+                shardRanks[filled] = rank;
+                shardScores[filled++] = ((TypedTuple<?>) tuples.iterator().next()).getScore();
+            }
+            scores[shard] = Arrays.copyOf(shardScores, filled);
+            ranks[shard] = Arrays.copyOf(shardRanks, filled);
+        }
+
+        return new RankIndex(scores, ranks, admitted, nextAdmitRate(previous, admitted, now), now);
+    }
+
+    /**
+     * 직전 인덱스 이후 누적 입장 인원 증가량으로 구한 초당 입장 인원을 지수 이동 평균으로 반영
+     * @return 초당 입장 인원 (직전 인덱스가 없으면 0)
+     */
+    static double nextAdmitRate(RankIndex previous, long admitted, long now) {
+        if (previous == null || now <= previous.builtAt()) {
+            return previous == null ? 0 : previous.admitRate();
+        }
+        // 카운터가 초기화되어 줄어든 경우는 입장 없음으로 본다
+        double instant = Math.max(0, admitted - previous.admitted()) * 1000.0 / (now - previous.builtAt());
+        return previous.admitRate() == 0 ? instant
+                : RATE_SMOOTHING * instant + (1 - RATE_SMOOTHING) * previous.admitRate();
+    }
+
+    /**
+     * 0 ~ size-1 구간을 samples개로 나눈 순위 (첫/마지막 순위 포함)
+     */
+    static long[] sampleRanks(long size, int samples) {
+        if (size == 0) {
+            return new long[0];
+        }
+        int count = (int) Math.min(size, samples);
+        long[] ranks = new long[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = count == 1 ? 0 : (size - 1) * i / (count - 1);
+        }
+        return ranks;
+    }
+
+    /**
+     * score보다 먼저 들어온 인원을 인접한 두 표본 사이에서 선형 보간
+     */
+    static double interpolate(double[] scores, long[] ranks, double score) {
+        if (scores.length == 0 || score <= scores[0]) {
+            return 0;
+        }
+        int position = Arrays.binarySearch(scores, score);
+        if (position >= 0) {
+            return ranks[position];
+        }
+        int upper = -position - 1;
+        if (upper >= scores.length) {
+            return ranks[scores.length - 1] + 1;
+        }
+        int lower = upper - 1;
+        double ratio = (score - scores[lower]) / (scores[upper] - scores[lower]);
+        return ranks[lower] + ratio * (ranks[upper] - ranks[lower]);
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param scores 샤드별 표본 score (오름차순)
+     * @param ranks 샤드별 표본 순위 (0부터)
+     * @param admitted 인덱스 생성 시점의 누적 입장 인원
+     * @param admitRate 초당 입장 인원
+     * @param builtAt 인덱스 생성 시각(ms)
+     */
+    record RankIndex(double[][] scores, long[][] ranks, long admitted, double admitRate, long builtAt) {
+
+        /**
+         * 추정 순위 = 샤드별 보간 순위의 합 - 인덱스 생성 이후 입장했을 인원 + 1 (1 미만이면 1)
+         */
+        long estimateRank(double enteredAt, long now) {
+            double before = 0;
+            for (int shard = 0; shard < scores.length; shard++) {
+                before += interpolate(scores[shard], ranks[shard], enteredAt);
+            }
+            double admittedSince = admitRate * (now - builtAt) / 1000.0;
+            return Math.max(1L, Math.round(before - admittedSince) + 1);
+        }
+
+        /**
+         * @return 예상 대기 시간(초), 입장 속도를 아직 모르면 null
+         */
+        Long estimateWaitSeconds(long rank) {
+            return admitRate <= 0 ? null : Math.round(rank / admitRate);
+        }
+    }
+}
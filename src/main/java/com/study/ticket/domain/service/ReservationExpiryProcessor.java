@@ -0,0 +1,73 @@
+package com.study.ticket.domain.service;
+
+import com.study.ticket.common.redis.RedisKeys;
+import com.study.ticket.domain.Entity.Reservation;
+import com.study.ticket.domain.constant.ReservationStatus;
+import com.study.ticket.domain.constant.SeatStatus;
+import com.study.ticket.domain.inventory.SeatInventoryManager;
+import com.study.ticket.domain.repository.ReservationRepository;
+import com.study.ticket.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 마감이 지난 예약을 일괄 취소하고 좌석을 반환하는 컴포넌트
+ * [구현 로직]
+ * 1. 아직 NOT_PAID인 예약만 행 잠금으로 조회 (결제와 동시에 처리되는 경우 대비).
+ * 2. 예약 상태 CANCELED, 좌석 상태 AVAILABLE을 각각 IN 조건 UPDATE 한 번으로 변경.
+ * 3. 커밋 후 좌석 인벤토리 슬롯과 Redis 좌석 선점 키를 반환.
+ *    선점 키는 만료된 예약의 유저가 잡고 있을 때만 지운다 (redis-script 모드에서 미결제 좌석의 선점 키를 푸는 유일한 경로).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryProcessor {
+
+    private static final RedisScript<Long> SEAT_HOLD_RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat_hold_release.lua"), Long.class);
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final SeatInventoryManager seatInventoryManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public void expire(List<Long> reservationIds) {
+        List<Reservation> expired = transactionTemplate.execute(status -> {
+            List<Reservation> pending = reservationRepository.findAllForUpdateByIdInAndStatus(reservationIds, ReservationStatus.NOT_PAID);
+            if (pending.isEmpty()) {
+                return List.<Reservation>of();
+            }
+            List<Long> pendingIds = pending.stream().map(Reservation::getId).toList();
+            List<Long> pendingSeatIds = pending.stream().map(Reservation::getSeatId).toList();
+            reservationRepository.updateStatus(pendingIds, ReservationStatus.CANCELED);
+            seatRepository.updateStatusIf(pendingSeatIds, SeatStatus.RESERVED, SeatStatus.AVAILABLE);
+            return pending;
+        });
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+
+        List<String> holdKeys = new ArrayList<>(expired.size());
+        List<String> holders = new ArrayList<>(expired.size());
+        for (Reservation reservation : expired) {
+            Long concertOptionId = seatInventoryManager.forceRelease(reservation.getSeatId());
+            if (concertOptionId != null) {
+                holdKeys.add(RedisKeys.seatHold(concertOptionId, reservation.getSeatId()));
+                holders.add(String.valueOf(reservation.getUserId()));
+            }
+        }
+        if (!holdKeys.isEmpty()) {
+            stringRedisTemplate.execute(SEAT_HOLD_RELEASE_SCRIPT, holdKeys, holders.toArray());
+        }
+        log.info("미결제 예약 만료: {}건", expired.size());
+    }
+}
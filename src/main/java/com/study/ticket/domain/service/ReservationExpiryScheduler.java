@@ -0,0 +1,151 @@
+package com.study.ticket.domain.service;
+
+import com.study.ticket.common.redis.RedisKeys;
+import com.study.ticket.common.timer.HashedTimingWheel;
+import com.study.ticket.domain.dto.event.ReservationEvent;
+import com.study.ticket.domain.inventory.SeatHoldProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 미결제 예약 만료 타이머
+ * [구조]
+ * 1. 'reservation:expiry' ZSET (score = 결제 마감 시각): 노드 재시작/장애에도 남는 원본.
+ * 2. 노드 내 해시드 타이밍 휠: 등록한 노드가 마감 시각에 바로 만료 처리 (ZSET 폴링 없음).
+ * 3. 휠에서 만료된 항목은 expiry_claim.lua로 선점에 성공한 것만 처리하여 결제/다른 노드와 중복 처리 방지.
+ *    선점은 ZREM이 아니라 score를 임대 만료 시각(now + claim-lease)으로 미루는 방식이며, 만료 처리가 커밋된 뒤에 ZREM 한다.
+ * 4. sweep: 마감 후 grace가 지나도 남아 있는 항목(담당 노드 장애, 만료 처리 실패 후 임대 만료 등)을 다른 노드가 인계받아 처리.
+ * 만료 처리 자체는 ReservationExpiryProcessor가 틱 단위로 모아서 한 번에 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryScheduler {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/expiry_claim.lua"), List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWEEP_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/expiry_sweep.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SeatHoldProperties seatHoldProperties;
+    private final ReservationExpiryProcessor reservationExpiryProcessor;
+
+    @Value("${ticket.expiry.tick-ms:1000}")
+    private long tickMillis;
+    @Value("${ticket.expiry.wheel-size:512}")
+    private int wheelSize;
+    @Value("${ticket.expiry.sweep-grace:5s}")
+    private Duration sweepGrace;
+    @Value("${ticket.expiry.sweep-batch-size:1000}")
+    private int sweepBatchSize;
+    @Value("${ticket.expiry.claim-lease:1m}")
+    private Duration claimLease;
+
+    private HashedTimingWheel<Long> wheel;
+
+    @PostConstruct
+    public void start() {
+        wheel = new HashedTimingWheel<>("reservation-expiry-wheel", tickMillis, wheelSize, this::onWheelExpired);
+        wheel.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.close();
+    }
+
+    /**
+     * 예약 이벤트 목록의 만료 타이머를 ZADD 한 번으로 등록하고 타이밍 휠에 올림
+     */
+    public void register(List<ReservationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long holdMillis = seatHoldProperties.holdTtl().toMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(events.size() * 2);
+        List<long[]> timers = new ArrayList<>(events.size());
+        for (ReservationEvent event : events) {
+            long deadline = event.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + holdMillis;
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(event.reservationId()), (double) deadline));
+            timers.add(new long[]{event.reservationId(), deadline});
+        }
+        stringRedisTemplate.opsForZSet().add(RedisKeys.reservationExpiry(), tuples);
+        timers.forEach(timer -> wheel.schedule(timer[0], timer[1]));
+    }
+
+    /**
+     * 결제 완료 등으로 더 이상 만료시킬 필요가 없는 예약의 타이머 해제
+     * (휠에 남은 항목은 만료 시점에 선점 실패로 무시됨)
+     */
+    public void cancel(Long reservationId) {
+        stringRedisTemplate.opsForZSet().remove(RedisKeys.reservationExpiry(), String.valueOf(reservationId));
+    }
+
+    /**
+     * 담당 노드가 처리하지 못한 만료 예약 인계
+     */
+    @Scheduled(fixedDelayString = "${ticket.expiry.sweep-interval-ms:5000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        long threshold = now - sweepGrace.toMillis();
+        List<Long> claimed;
+        do {
+            claimed = toIds(stringRedisTemplate.execute(SWEEP_SCRIPT, List.of(RedisKeys.reservationExpiry()),
+                    String.valueOf(threshold), String.valueOf(sweepBatchSize), String.valueOf(now + claimLease.toMillis())));
+            if (!claimed.isEmpty()) {
+                log.info("만료 예약 인계 처리: {}건", claimed.size());
+                expire(claimed);
+            }
+        } while (claimed.size() == sweepBatchSize);
+    }
+
+    private void onWheelExpired(List<Long> reservationIds) {
+        long now = System.currentTimeMillis();
+        List<String> args = new ArrayList<>(reservationIds.size() + 2);
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(now + claimLease.toMillis()));
+        reservationIds.forEach(reservationId -> args.add(String.valueOf(reservationId)));
+
+        List<Long> claimed = toIds(stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(RedisKeys.reservationExpiry()),
+                args.toArray()));
+        if (!claimed.isEmpty()) {
+            expire(claimed);
+        }
+    }
+
+    /**
+     * 만료 처리가 커밋된 뒤에만 ZSET에서 제거 (실패하면 예외가 전파되고 항목은 임대 만료 후 sweep이 다시 처리)
+     */
+    private void expire(List<Long> claimed) {
+        reservationExpiryProcessor.expire(claimed);
+        stringRedisTemplate.opsForZSet().remove(RedisKeys.reservationExpiry(),
+                claimed.stream().map(String::valueOf).toArray());
+    }
+
+    private List<Long> toIds(List<?> members) {
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(member -> Long.valueOf(member.toString())).toList();
+    }
+}
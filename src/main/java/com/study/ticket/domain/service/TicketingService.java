@@ -1,24 +1,79 @@
 package com.study.ticket.domain.service;
 
+import com.study.ticket.common.cache.CatalogCache;
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.common.monitor.TicketMetrics;
+import com.study.ticket.common.redis.RedisKeys;
+import com.study.ticket.domain.constant.ReservationStatus;
+import com.study.ticket.domain.constant.SeatStatus;
 import com.study.ticket.domain.dto.request.ChargePointRequest;
+import com.study.ticket.domain.dto.request.GroupReserveRequest;
 import com.study.ticket.domain.dto.request.PaymentRequest;
 import com.study.ticket.domain.dto.request.ReserveSeatRequest;
+import com.study.ticket.domain.dto.request.SeatLayoutRequest;
 import com.study.ticket.domain.dto.response.ConcertListResponse;
 import com.study.ticket.domain.dto.response.ConcertOptionListResponse;
 import com.study.ticket.domain.dto.response.SeatListResponse;
+import com.study.ticket.domain.dto.response.SeatMapBitmapResponse;
+import com.study.ticket.domain.dto.response.SeatMapDeltaResponse;
+import com.study.ticket.domain.dto.response.SeatProvisioningResponse;
+import com.study.ticket.domain.dto.response.SeatResponse;
+import com.study.ticket.domain.inventory.SeatHoldProperties;
+import com.study.ticket.domain.inventory.SeatHoldResult;
+import com.study.ticket.domain.inventory.SeatHoldStrategy;
+import com.study.ticket.domain.inventory.SeatInventory;
+import com.study.ticket.domain.inventory.SeatInventoryManager;
+import com.study.ticket.domain.inventory.SeatMapService;
+import com.study.ticket.domain.inventory.SeatMapSnapshot;
+import com.study.ticket.domain.inventory.SeatProvisioner;
+import com.study.ticket.domain.payment.PaymentProcessor;
+import com.study.ticket.domain.payment.PaymentResult;
+import com.study.ticket.domain.repository.ConcertOptionRepository;
+import com.study.ticket.domain.repository.ConcertRepository;
+import com.study.ticket.domain.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TicketingService {
 
+    private static final int ADJACENT_SEARCH_ATTEMPTS = 3;
+    private static final List<ReservationStatus> RESERVED_STATUSES =
+            List.of(ReservationStatus.NOT_PAID, ReservationStatus.PAID);
+
+    private final SeatInventoryManager seatInventoryManager;
+    private final SeatHoldStrategy seatHoldStrategy;
+    private final SeatHoldProperties seatHoldProperties;
+    private final SeatMapService seatMapService;
+    private final SeatProvisioner seatProvisioner;
+    private final ConcertRepository concertRepository;
+    private final ConcertOptionRepository concertOptionRepository;
+    private final ReservationRepository reservationRepository;
+    private final CatalogCache catalogCache;
+    private final PointLedger pointLedger;
+    private final PaymentProcessor paymentProcessor;
+    private final ReservationExpiryScheduler reservationExpiryScheduler;
+    private final TicketMetrics ticketMetrics;
+
     /**
      * 콘서트 목록을 조회하는 메서드
      * @return
      */
     public ConcertListResponse getConcerts() {
-        return null;
+        return ConcertListResponse.from(concertRepository.findAll());
+    }
+
+    /**
+     * 콘서트 목록 응답을 직렬화된 JSON으로 조회하는 메서드 (카탈로그 캐시 사용)
+     * @return
+     */
+    public byte[] getConcertsJson() {
+        return catalogCache.get(RedisKeys.concertCatalog(), this::getConcerts);
     }
 
     /**
@@ -27,25 +82,68 @@ public class TicketingService {
      * @return
      */
     public ConcertOptionListResponse getConcertOptions(Long concertId) {
-        return null;
+        if (!concertRepository.existsById(concertId)) {
+            throw new CustomException(ExceptionCode.CONCERT_NOT_FOUND);
+        }
+        return ConcertOptionListResponse.from(concertOptionRepository.findAllByConcertIdOrderByStartTimeAsc(concertId));
+    }
+
+    /**
+     * 콘서트 옵션 응답을 직렬화된 JSON으로 조회하는 메서드 (카탈로그 캐시 사용)
+     * @param concertId
+     * @return
+     */
+    public byte[] getConcertOptionsJson(Long concertId) {
+        return catalogCache.get(RedisKeys.concertOptionCatalog(concertId), () -> getConcertOptions(concertId));
     }
 
     /**
      * 예매가능한 좌석을 조회하는 메서드
+     * DB를 거치지 않고 좌석 현황 스냅샷(최대 refresh-ms 주기로 갱신)을 모든 요청이 공유한다.
+     * @param concertOptionId
+     * @return 스냅샷 (SeatListResponse JSON과 버전 포함)
+     */
+    public SeatMapSnapshot getAvailableSeats(Long concertOptionId) {
+        return seatMapService.snapshot(concertOptionId);
+    }
+
+    /**
+     * sinceVersion 이후 상태가 바뀐 좌석만 조회하는 메서드
+     * @param concertOptionId
+     * @param sinceVersion 직전 응답의 version
+     * @return
+     */
+    public SeatMapDeltaResponse getSeatChanges(Long concertOptionId, long sinceVersion) {
+        return seatMapService.delta(concertOptionId, sinceVersion);
+    }
+
+    /**
+     * 좌석 현황을 비트맵으로 조회하는 메서드
      * @param concertOptionId
      * @return
      */
-    public SeatListResponse getAvailableSeats(Long concertOptionId) {
-        return null;
+    public SeatMapBitmapResponse getSeatBitmap(Long concertOptionId) {
+        return seatMapService.bitmap(concertOptionId);
+    }
+
+    /**
+     * 회차의 전체 좌석 배치(좌석 ID 오름차순)와 상태를 조회하는 메서드
+     * @param concertOptionId
+     * @return
+     */
+    public SeatListResponse getSeatLayout(Long concertOptionId) {
+        return seatMapService.layout(concertOptionId);
     }
 
     /**
      * 유저가 예약 또는 구매한 좌석을 조회하는 메서드
+     * 읽기 전용 트랜잭션이므로 reader 풀에서 실행되며, 쿼리 결과를 바로 응답 DTO로 만든다.
      * @param userId
      * @return
      */
+    @Transactional(readOnly = true)
     public SeatListResponse getReservedSeats(Long userId) {
-        return null;
+        return new SeatListResponse(reservationRepository.findSeatsByUserIdAndStatusIn(userId, RESERVED_STATUSES));
     }
 
     /**
@@ -56,26 +154,131 @@ public class TicketingService {
      * 3. 'reservation-topic'으로 이벤트 전송.
      * 4. 주의: 전송 실패 시 로그를 남기되, 사용자 예약 자체를 롤백할지(Strong Consistency)
      * 아니면 별도 재시도를 할지(Eventual Consistency) 정책 결정 필요.
+     * [좌석 선점]
+     * 세션 검증과 좌석 선점은 'ticket.seat-hold.mode'로 선택된 SeatHoldStrategy가 처리한다.
+     * [거절 경로]
+     * 이미 선점된 좌석/세션 만료는 오픈 직후 요청 대부분의 결과이므로 예외를 던지지 않고 결과로 반환한다.
+     * (컨트롤러가 미리 만들어 둔 응답으로 바로 변환)
+     * @return 선점 결과
      */
-    public String reserveSeat(ReserveSeatRequest request) {
-        return null;
+    public SeatHoldResult reserveSeat(ReserveSeatRequest request) {
+        long startedAt = System.nanoTime();
+        Long concertOptionId = seatInventoryManager.findConcertOptionId(request.seatId());
+        SeatHoldResult result = seatHoldStrategy.hold(concertOptionId, request.seatId(), request.userId());
+        ticketMetrics.recordReservation(result, startedAt);
+        return result;
+    }
+
+    /**
+     * 여러 좌석을 한 번에 예약하는 메서드 (전부 예약되거나 하나도 예약되지 않음)
+     * [구현 로직]
+     * 1. 좌석 지정: 좌석 ID를 오름차순 정렬 후 중복/개수/회차 검증.
+     *    연석 모드(adjacentCount): 인벤토리에서 같은 열의 이어진 빈 좌석을 앞쪽부터 찾아 선택.
+     * 2. SeatHoldStrategy.holdAll로 한 번에 선점
+     *    (inventory: 비트 CAS 일괄, redis-script: Lua 1회, redisson-lock: 좌석 ID 순으로 정렬된 멀티 락).
+     * 3. 예약 INSERT는 JDBC 배치 한 번으로 저장.
+     * 연석 모드는 검색과 선점 사이에 다른 요청이 좌석을 가져가면 다시 검색한다 (최대 ADJACENT_SEARCH_ATTEMPTS회).
+     * 선점 실패 시 각 방식이 확인한 선점 좌석을 로컬 인벤토리에 반영하므로 (redis-script: 선점 키, redisson-lock: DB 상태)
+     * 로컬 인벤토리가 뒤처진 노드에서도 재검색은 다른 좌석을 고른다.
+     * @param request
+     * @return 예약된 좌석 목록
+     */
+    public SeatListResponse reserveSeats(GroupReserveRequest request) {
+        long startedAt = System.nanoTime();
+        boolean adjacentMode = request.seatIds() == null || request.seatIds().isEmpty();
+        int attempts = adjacentMode ? ADJACENT_SEARCH_ATTEMPTS : 1;
+
+        SeatHoldResult result = SeatHoldResult.ALREADY_HELD;
+        List<Long> seatIds = List.of();
+        for (int attempt = 0; attempt < attempts && result == SeatHoldResult.ALREADY_HELD; attempt++) {
+            seatIds = adjacentMode ? findAdjacentSeats(request) : validateSeatGroup(request);
+            result = seatHoldStrategy.holdAll(request.concertOptionId(), seatIds, request.userId());
+        }
+        ticketMetrics.recordReservation(result, startedAt);
+        if (!result.isHeld()) {
+            throw new CustomException(result.getFailureCode());
+        }
+
+        SeatInventory inventory = seatInventoryManager.get(request.concertOptionId());
+        return new SeatListResponse(seatIds.stream()
+                .map(seatId -> new SeatResponse(seatId, inventory.seatNumber(inventory.slotOf(seatId)), SeatStatus.RESERVED))
+                .toList());
+    }
+
+    /**
+     * 회차의 좌석을 배치대로 일괄 생성하는 메서드
+     * @param concertOptionId
+     * @param request 구역별 열/좌석 수와 가격
+     * @return 생성 좌석 수와 적재 속도(rows/s)
+     */
+    public SeatProvisioningResponse provisionSeats(Long concertOptionId, SeatLayoutRequest request) {
+        return seatProvisioner.provision(concertOptionId, request);
     }
 
     /**
      * 예약한 좌석을 결제하는 메서드
+     * [구현 로직]
+     * 1. 예약 소유자와 활성 세션 검증.
+     * 2. 포인트 원장에 'payment:{reservationId}' 키로 차감 기록 (중복 결제 요청은 아무것도 하지 않음).
+     * 3. 예약 PAID, 좌석 SOLD, 잔액 차감은 예약이 NOT_PAID이고 잔액이 충분할 때만 반영 (실패하면 원장 기록도 롤백).
+     * 4. 커밋 후 만료 타이머 해제.
+     * 1~3은 PaymentProcessor 구현체가 한 트랜잭션으로 처리한다 ('ticket.payment.mode').
      * @param request
      * @return
      */
     public String payment(PaymentRequest request) {
-        return null;
+        long startedAt = System.nanoTime();
+        PaymentResult result;
+        try {
+            result = paymentProcessor.pay(request.reservationId(), request.userId());
+        } catch (CustomException e) {
+            ticketMetrics.recordPayment(e.getCode().name(), startedAt);
+            throw e;
+        }
+        ticketMetrics.recordPayment(result.name(), startedAt);
+        if (result == PaymentResult.ALREADY_PAID) {
+            return "이미 결제된 예약입니다.";
+        }
+        reservationExpiryScheduler.cancel(request.reservationId());
+        return "결제가 완료되었습니다.";
     }
 
     /**
      * 포인트를 충전하는 메서드
      * @param request
-     * @return
+     * @param idempotencyKey 같은 키로 재요청하면 한 번만 충전됨
+     * @return 충전 후 잔액
      */
-    public Long chargePoint(ChargePointRequest request) {
-        return null;
+    public Long chargePoint(ChargePointRequest request, String idempotencyKey) {
+        return pointLedger.charge(request.userId(), request.amount(), "charge:" + request.userId() + ":" + idempotencyKey);
+    }
+
+    /**
+     * 지정 좌석 검증 후 좌석 ID 오름차순 목록 반환 (정렬 순서 = 락/선점 순서)
+     */
+    private List<Long> validateSeatGroup(GroupReserveRequest request) {
+        List<Long> seatIds = request.seatIds().stream().sorted().distinct().toList();
+        if (request.concertOptionId() == null || seatIds.size() != request.seatIds().size()
+                || seatIds.size() > seatHoldProperties.maxGroupSize()) {
+            throw new CustomException(ExceptionCode.ILLEGAL_SEAT_GROUP);
+        }
+        for (Long seatId : seatIds) {
+            if (!request.concertOptionId().equals(seatInventoryManager.findConcertOptionId(seatId))) {
+                throw new CustomException(ExceptionCode.ILLEGAL_SEAT_GROUP);
+            }
+        }
+        return seatIds;
+    }
+
+    private List<Long> findAdjacentSeats(GroupReserveRequest request) {
+        Integer count = request.adjacentCount();
+        if (request.concertOptionId() == null || count == null || count < 1 || count > seatHoldProperties.maxGroupSize()) {
+            throw new CustomException(ExceptionCode.ILLEGAL_SEAT_GROUP);
+        }
+        List<Long> seatIds = seatInventoryManager.findAdjacentAvailable(request.concertOptionId(), count);
+        if (seatIds.isEmpty()) {
+            throw new CustomException(ExceptionCode.ADJACENT_SEATS_NOT_FOUND);
+        }
+        return seatIds;
     }
 }
@@ -1,12 +1,59 @@
 package com.study.ticket.domain.service;
 
+import com.study.ticket.common.exception.CustomException;
+import com.study.ticket.common.exception.ExceptionCode;
+import com.study.ticket.common.redis.RedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WaitingQueueService {
 
+    private static final RedisScript<Long> REGISTER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue_register.lua"), Long.class);
+
+    private static final long PROMOTE_LOCK_LEASE_MILLIS = 5_000L;
+    private static final Comparator<WaitingUser> ARRIVAL_ORDER = Comparator.comparingDouble(WaitingUser::enteredAt)
+            .thenComparing(waiting -> String.valueOf(waiting.userId()));
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final QueueProperties queueProperties;
+    private final MeterRegistry meterRegistry;
+    private final QueueRankEstimator queueRankEstimator;
+    private final ActiveSessionStore activeSessionStore;
+
+    private final Map<Long, AtomicLong> waitingCounts = new ConcurrentHashMap<>();
+
     /**
      * 특정 공연 회차의 대기열에 진입하는 메서드
      * [구현 가이드]
@@ -14,8 +61,33 @@ public class WaitingQueueService {
      * 2. 타 공연 대기 중이면 ALREADY_IN_QUEUE 예외 발생.
      * 3. Redis SortedSet(queue:wait:{optionId})에 유저 등록 (Score=현재시간).
      * 4. 유저 상태 키 생성 및 TTL 설정 (대기 중 이탈 대비).
+     * [구현]
+     * 1, 2, 4는 queue_register.lua 한 번으로 처리하고, 통과하면 ZADD NX(재진입 시 기존 순번 유지)와 회차 등록을 파이프라인으로 보낸다.
+     * 샤드가 여러 개인 회차는 userId 해시로 정해진 샤드에만 등록한다 (재진입해도 같은 샤드).
+     * 스크립트가 대기열 키를 건드리지 않으므로 샤드 키는 서로 다른 Redis 노드에 놓일 수 있다.
      */
-    public void registerQueue(Long concertOptionId, Long userId) {}
+    public void registerQueue(Long concertOptionId, Long userId) {
+        Long result = stringRedisTemplate.execute(
+                REGISTER_SCRIPT,
+                List.of(RedisKeys.userStatus(userId), RedisKeys.activeSession(concertOptionId, userId)),
+                String.valueOf(concertOptionId),
+                String.valueOf(queueProperties.waitTtl().toMillis()));
+
+        if (result != null && result < 0L) {
+            throw new CustomException(ExceptionCode.ALREADY_IN_QUEUE);
+        }
+        if (result == null || result == 0L) {
+            return;
+        }
+
+        byte[] queueKey = bytes(waitQueueKey(concertOptionId, userId));
+        double enteredAt = System.currentTimeMillis();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(queueKey, enteredAt, bytes(String.valueOf(userId)), ZAddArgs.ifNotExists());
+            connection.setCommands().sAdd(bytes(RedisKeys.queueOptions()), bytes(String.valueOf(concertOptionId)));
+            return null;
+        });
+    }
 
     /**
      * 대기열 유저를 활성 세션으로 전환 (스케줄러 호출용)
@@ -24,24 +96,438 @@ public class WaitingQueueService {
      * 2. 가용 자원량만큼 대기열 상위 유저 추출.
      * 3. 활성 세션 키(queue:active:{optionId}:{userId}) 생성 (기본 10분 TTL).
      * 4. 대기열(ZSET) 및 대기 상태 키 정리.
+     * [구현]
+     * 입장 인원 = min(회차별 최대 활성 세션 수 - 현재 활성 세션 수, 틱당 최대 입장 수)
+     * 0) 이전 틱이 남긴 입장 처리 기록이 있으면 먼저 마저 입장시킨다. (아래 [장애 시] 참고)
+     * 1) 활성 세션 정리/집계와 샤드별 대기 인원을 파이프라인 1회로 조회.
+     * 2) 샤드별 선두 quota명을 읽어 진입 시각(같으면 userId) 순으로 병합.
+     * 3) 뽑힌 유저를 입장 처리 기록(HSET)에 남긴 뒤 각 샤드에서 ZREM.
+     *    ZREM에 성공한 유저만 입장시키므로 그 사이 대기열에서 빠진 유저는 입장하지 않는다.
+     * 4) 활성 세션 키, 활성 세션 집계, 유저 상태 키 삭제, 누적 입장 인원을 파이프라인 1회로 반영하고 입장 처리 기록을 지운다.
+     * 모든 명령이 키 하나씩만 다루므로 샤드 키는 서로 다른 Redis 노드에 놓일 수 있다.
+     * 대신 틱당 Redis 왕복은 락 획득/해제 외에 6회(기록 확인, 1, 2, 기록, ZREM, 4)이고,
+     * 대기 인원이 모두 빠진 틱은 회차 정리로 2~3회가 더해진다. 회차별 실행은 분산 락으로 직렬화된다.
+     * [장애 시]
+     * 3)과 4) 사이에 노드가 죽거나 락 임대 시간(PROMOTE_LOCK_LEASE_MILLIS)이 지나 다른 노드가 끼어들어도,
+     * 입장 처리 기록이 남아 있으므로 다음 틱에서 아직 대기열에 있거나(ZREM 성공) 대기 상태 키가 이 회차를 가리키는 유저를 입장시킨다.
+     * 입장 반영은 모두 덮어쓰기라 두 노드가 같은 유저를 함께 입장시켜도 결과는 같다. (누적 입장 인원만 중복 집계될 수 있음)
+     * 대기 상태 키(wait-ttl)까지 만료된 유저는 다시 대기열에 진입해야 한다.
+     * [메트릭]
+     * queue.waiting(남은 대기 인원), queue.admitted(입장 인원), queue.wait(진입부터 입장까지 대기 시간)
+     * @return 이번 실행에서 입장한 인원
      */
-    public void promoteToActive(Long concertOptionId) {}
+    public int promoteToActive(Long concertOptionId) {
+        RLock lock = redissonClient.getLock(RedisKeys.promoteLock(concertOptionId));
+        try {
+            if (!lock.tryLock(0, PROMOTE_LOCK_LEASE_MILLIS, TimeUnit.MILLISECONDS)) {
+                return 0;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            List<String> queueKeys = waitQueueKeys(concertOptionId);
+            List<WaitingUser> admitted = new ArrayList<>(recoverAdmissions(concertOptionId, now));
+            byte[] activeSetKey = bytes(RedisKeys.activeSessions(concertOptionId));
+            List<Object> state = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zRemRangeByScore(activeSetKey, Double.NEGATIVE_INFINITY, now);
+                connection.zSetCommands().zCard(activeSetKey);
+                for (String key : queueKeys) {
+                    connection.zSetCommands().zCard(bytes(key));
+                }
+                return null;
+            });
+            long active = ((Number) state.get(1)).longValue();
+            long waiting = 0;
+            for (int i = 2; i < state.size(); i++) {
+                waiting += ((Number) state.get(i)).longValue();
+            }
+
+            long quota = Math.min(queueProperties.maxActiveOf(concertOptionId) - active,
+                    queueProperties.maxAdmitPerTickOf(concertOptionId));
+            if (quota > 0 && waiting > 0) {
+                List<WaitingUser> entered = admit(concertOptionId, queueKeys, (int) quota, now);
+                waiting = Math.max(0, waiting - entered.size());
+                admitted.addAll(entered);
+            }
+            if (waiting == 0) {
+                clearWaitingOption(concertOptionId, queueKeys);
+            }
+            waitingGauge(concertOptionId).set(waiting);
+
+            if (!admitted.isEmpty()) {
+                admittedCounter(concertOptionId).increment(admitted.size());
+                Timer waitTimer = queueWaitTimer(concertOptionId);
+                for (WaitingUser user : admitted) {
+                    waitTimer.record(now - (long) user.enteredAt(), TimeUnit.MILLISECONDS);
+                }
+                log.debug("대기열 입장: concertOptionId={}, count={}", concertOptionId, admitted.size());
+            }
+            return admitted.size();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 샤드별 선두를 병합해 quota명을 뽑아 대기열에서 제거하고 활성 세션으로 전환
+     * @return 입장시킨 유저 (진입 순서)
+     */
+    private List<WaitingUser> admit(Long concertOptionId, List<String> queueKeys, int quota, long now) {
+        List<List<WaitingUser>> heads = readHeads(queueKeys, quota);
+        List<Candidate> candidates = new ArrayList<>();
+        for (int shard = 0; shard < heads.size(); shard++) {
+            for (WaitingUser user : heads.get(shard)) {
+                candidates.add(new Candidate(queueKeys.get(shard), user));
+            }
+        }
+        candidates.sort(Comparator.comparing(Candidate::user, ARRIVAL_ORDER));
+        List<Candidate> selected = candidates.size() <= quota ? candidates : candidates.subList(0, quota);
+        if (selected.isEmpty()) {
+            return List.of();
+        }
+
+        String journalKey = RedisKeys.admittingUsers(concertOptionId);
+        Map<String, String> journal = new LinkedHashMap<>();
+        for (Candidate candidate : selected) {
+            journal.put(String.valueOf(candidate.user().userId()), String.valueOf(candidate.user().enteredAt()));
+        }
+        stringRedisTemplate.opsForHash().putAll(journalKey, journal);
+
+        List<Object> removed = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Candidate candidate : selected) {
+                connection.zSetCommands().zRem(bytes(candidate.queueKey()), bytes(String.valueOf(candidate.user().userId())));
+            }
+            return null;
+        });
+        List<WaitingUser> admitted = new ArrayList<>(selected.size());
+        for (int i = 0; i < selected.size(); i++) {
+            if (((Number) removed.get(i)).longValue() > 0) {
+                admitted.add(selected.get(i).user());
+            }
+        }
+        activate(concertOptionId, admitted, journal.keySet(), now);
+        return admitted;
+    }
+
+    /**
+     * 이전 틱이 대기열에서 빼고 활성 세션을 만들기 전에 멈춘 유저를 마저 입장시킴
+     * 아직 대기열에 남아 있거나(여기서 ZREM 성공) 대기 상태 키가 이 회차를 가리키면 입장 대상이다.
+     * @return 입장시킨 유저
+     */
+    private List<WaitingUser> recoverAdmissions(Long concertOptionId, long now) {
+        String journalKey = RedisKeys.admittingUsers(concertOptionId);
+        Map<Object, Object> journal = stringRedisTemplate.opsForHash().entries(journalKey);
+        if (journal.isEmpty()) {
+            return List.of();
+        }
+        List<WaitingUser> pending = new ArrayList<>(journal.size());
+        journal.forEach((userId, enteredAt) ->
+                pending.add(new WaitingUser(Long.valueOf(String.valueOf(userId)), Double.parseDouble(String.valueOf(enteredAt)))));
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (WaitingUser user : pending) {
+                connection.zSetCommands().zRem(bytes(waitQueueKey(concertOptionId, user.userId())), bytes(String.valueOf(user.userId())));
+                connection.stringCommands().get(bytes(RedisKeys.userStatus(user.userId())));
+            }
+            return null;
+        });
+        String option = String.valueOf(concertOptionId);
+        List<WaitingUser> recovered = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            boolean removed = ((Number) results.get(i * 2)).longValue() > 0;
+            if (removed || option.equals(results.get(i * 2 + 1))) {
+                recovered.add(pending.get(i));
+            }
+        }
+        List<String> fields = pending.stream().map(user -> String.valueOf(user.userId())).toList();
+        activate(concertOptionId, recovered, fields, now);
+        log.warn("중단된 입장 처리 복구: concertOptionId={}, pending={}, admitted={}", concertOptionId, pending.size(), recovered.size());
+        return recovered;
+    }
+
+    /**
+     * 활성 세션 키, 활성 세션 집계, 유저 상태 키 삭제, 누적 입장 인원을 파이프라인 1회로 반영하고 입장 처리 기록을 지움
+     * @param journalFields 지울 입장 처리 기록 (입장하지 못한 유저 포함)
+     */
+    private void activate(Long concertOptionId, List<WaitingUser> users, Collection<String> journalFields, long now) {
+        byte[] activeSetKey = bytes(RedisKeys.activeSessions(concertOptionId));
+        byte[] journalKey = bytes(RedisKeys.admittingUsers(concertOptionId));
+        byte[] issuedAt = bytes(String.valueOf(now));
+        long sessionTtlMillis = queueProperties.sessionTtl().toMillis();
+        double expireAt = now + sessionTtlMillis;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (WaitingUser user : users) {
+                connection.stringCommands().set(bytes(RedisKeys.activeSession(concertOptionId, user.userId())), issuedAt,
+                        Expiration.milliseconds(sessionTtlMillis), SetOption.upsert());
+                connection.zSetCommands().zAdd(activeSetKey, expireAt, bytes(String.valueOf(user.userId())));
+                connection.keyCommands().del(bytes(RedisKeys.userStatus(user.userId())));
+            }
+            if (!users.isEmpty()) {
+                connection.stringCommands().incrBy(bytes(RedisKeys.admittedCount(concertOptionId)), users.size());
+            }
+            // 활성 세션 반영 뒤에 지워야 중간에 멈춰도 다음 틱이 기록을 보고 마저 입장시킨다
+            connection.hashCommands().hDel(journalKey, journalFields.stream().map(WaitingQueueService::bytes).toArray(byte[][]::new));
+            return null;
+        });
+    }
+
+    /**
+     * 대기 인원이 없는 회차를 스케줄러 순회 대상에서 제외
+     * 제외한 직후 다시 확인하여, 그 사이 진입한 유저가 있으면 되돌린다 (진입은 ZADD 후 SADD 순서).
+     */
+    private void clearWaitingOption(Long concertOptionId, List<String> queueKeys) {
+        String member = String.valueOf(concertOptionId);
+        stringRedisTemplate.opsForSet().remove(RedisKeys.queueOptions(), member);
+        List<Object> sizes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : queueKeys) {
+                connection.zSetCommands().zCard(bytes(key));
+            }
+            return null;
+        });
+        if (sizes.stream().anyMatch(size -> ((Number) size).longValue() > 0)) {
+            stringRedisTemplate.opsForSet().add(RedisKeys.queueOptions(), member);
+        }
+    }
+
+    /**
+     * 대기 인원이 남아 있는 회차 ID 목록
+     */
+    public List<Long> findWaitingOptionIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(RedisKeys.queueOptions());
+        return members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+    }
 
     /**
      * 활성 세션 시간 연장
      * [구현 가이드]
      * 1. isActive() 검증 후 세션 키의 TTL을 다시 10분으로 업데이트.
      * 2. (추가) 별도 키를 사용해 연장 횟수 제한 로직 구현.
+     * [구현]
+     * 검증, 횟수 증가, TTL 갱신을 session_extend.lua 한 번으로 처리한다.
+     * 연장 요청은 ActiveSessionStore가 짧은 주기로 모아 파이프라인 한 번에 실행한다.
+     * @return 연장된 세션 만료 시각 (epoch ms)
+     */
+    public long extendActiveSession(Long concertOptionId, Long userId) {
+        return activeSessionStore.extend(concertOptionId, userId);
+    }
+
+    /**
+     * 활성 세션 보유 여부 확인 (입장 토큰으로 확인된 세션은 Redis 호출 없이 판단)
      */
-    public void extendActiveSession(Long concertOptionId, Long userId) {}
+    public boolean isActive(Long concertOptionId, Long userId) {
+        return activeSessionStore.isActive(concertOptionId, userId);
+    }
 
     /**
-     * 활성 세션 보유 여부 확인
+     * 활성 세션 만료 시각 (epoch ms, 활성 세션이 없으면 null)
      */
-    public boolean isActive(Long concertOptionId, Long userId) { return false; }
+    public Long findSessionExpiresAt(Long concertOptionId, Long userId) {
+        return activeSessionStore.findExpiresAt(concertOptionId, userId);
+    }
+
+    /**
+     * 활성 세션 종료 (예매를 마친 유저가 자리를 비워 다음 대기자가 입장할 수 있도록)
+     */
+    public void leaveActiveSession(Long concertOptionId, Long userId) {
+        activeSessionStore.revoke(concertOptionId, userId);
+    }
 
     /**
      * 대기 순번 조회 (1부터 시작하는 순위 반환)
+     * [추정 모드] (ticket.queue.estimate-rank)
+     * 진입 시각(ZSCORE 1회)을 표본 인덱스로 환산하고, 추정 순위가 선두 exactHeadSize명 안쪽일 때만 정확한 순위를 계산한다.
+     * [정확한 순위]
+     * 샤드가 1개면 ZRANK, 여러 개면 자기 샤드 ZRANK와 다른 샤드의 먼저 들어온 인원(ZCOUNT)을 파이프라인 1회로 더한다.
+     * (샤드를 읽는 시점이 조금씩 달라 근사값)
+     */
+    public Long getRank(Long concertOptionId, Long userId) {
+        if (queueProperties.estimateRank()) {
+            Double enteredAt = findEnteredAt(concertOptionId, userId);
+            if (enteredAt == null) {
+                return null;
+            }
+            Long estimated = queueRankEstimator.estimateRank(concertOptionId, enteredAt);
+            if (estimated != null && estimated > queueProperties.exactHeadSize()) {
+                return estimated;
+            }
+            return exactRank(concertOptionId, userId, enteredAt);
+        }
+        return exactRank(concertOptionId, userId, null);
+    }
+
+    /**
+     * 대기열 진입 시각 (대기 중이 아니면 null)
+     */
+    public Double findEnteredAt(Long concertOptionId, Long userId) {
+        return stringRedisTemplate.opsForZSet().score(waitQueueKey(concertOptionId, userId), String.valueOf(userId));
+    }
+
+    /**
+     * 대기열 선두부터 limit명을 진입 순서대로 조회 (샤드가 여러 개면 샤드별 선두 limit명을 진입 시각 기준으로 병합)
+     * 전체 조회는 대기 인원에 비례하므로 지원하지 않는다.
+     * @param limit 조회 인원 (1 이상)
+     */
+    public List<WaitingUser> findWaitingHead(Long concertOptionId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<List<WaitingUser>> heads = readHeads(waitQueueKeys(concertOptionId), limit);
+        if (heads.size() == 1) {
+            return heads.get(0);
+        }
+        List<WaitingUser> merged = new ArrayList<>();
+        heads.forEach(merged::addAll);
+        merged.sort(ARRIVAL_ORDER);
+        return merged.size() <= limit ? merged : merged.subList(0, limit);
+    }
+
+    /**
+     * 여러 유저의 정확한 순번을 파이프라인 1회로 계산 (대기열에 없는 유저는 null)
+     * 샤드가 1개면 유저당 ZRANK 1회, 여러 개면 자기 샤드 ZRANK + 다른 샤드별 ZCOUNT(먼저 들어온 인원).
+     * (샤드 간 진입 시각이 같은 유저의 선후는 구분하지 않음)
+     */
+    public List<Long> findExactRanks(Long concertOptionId, List<WaitingUser> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        int shards = queueProperties.shardsOf(concertOptionId);
+        List<String> keys = waitQueueKeys(concertOptionId);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (WaitingUser user : users) {
+                byte[] member = bytes(String.valueOf(user.userId()));
+                int own = shards == 1 ? 0 : shardOf(user.userId(), shards);
+                double before = Math.nextDown(user.enteredAt());
+                for (int shard = 0; shard < keys.size(); shard++) {
+                    byte[] key = bytes(keys.get(shard));
+                    if (shard == own) {
+                        connection.zSetCommands().zRank(key, member);
+                    } else {
+                        connection.zSetCommands().zCount(key, Double.NEGATIVE_INFINITY, before);
+                    }
+                }
+            }
+            return null;
+        });
+
+        List<Long> ranks = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            int own = shards == 1 ? 0 : shardOf(users.get(i).userId(), shards);
+            Object ownRank = results.get(i * keys.size() + own);
+            if (ownRank == null) {
+                ranks.add(null);
+                continue;
+            }
+            long rank = ((Number) ownRank).longValue() + 1;
+            for (int shard = 0; shard < keys.size(); shard++) {
+                if (shard != own) {
+                    rank += ((Number) results.get(i * keys.size() + shard)).longValue();
+                }
+            }
+            ranks.add(rank);
+        }
+        return ranks;
+    }
+
+    private Long exactRank(Long concertOptionId, Long userId, Double enteredAt) {
+        if (queueProperties.shardsOf(concertOptionId) == 1) {
+            Long rank = stringRedisTemplate.opsForZSet().rank(RedisKeys.waitQueue(concertOptionId), String.valueOf(userId));
+            return rank == null ? null : rank + 1;
+        }
+        Double score = enteredAt != null ? enteredAt : findEnteredAt(concertOptionId, userId);
+        if (score == null) {
+            return null;
+        }
+        return findExactRanks(concertOptionId, List.of(new WaitingUser(userId, score))).get(0);
+    }
+
+    /**
+     * 샤드별 선두 limit명을 파이프라인 1회로 조회 (샤드 순서, 샤드 안에서는 진입 순서)
+     */
+    private List<List<WaitingUser>> readHeads(List<String> queueKeys, int limit) {
+        List<Object> shardMembers = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : queueKeys) {
+                connection.zSetCommands().zRangeWithScores(bytes(key), 0, limit - 1L);
+            }
+            return null;
+        });
+        List<List<WaitingUser>> heads = new ArrayList<>(shardMembers.size());
+        for (Object members : shardMembers) {
+            List<WaitingUser> head = new ArrayList<>();
+            for (Object member : (Set<?>) members) {
+                TypedTuple<?> tuple = (TypedTuple<?>) member;
+                head.add(new WaitingUser(Long.valueOf(String.valueOf(tuple.getValue())), tuple.getScore()));
+            }
+            heads.add(head);
+        }
+        return heads;
+    }
+
+    /**
+     * 유저가 속한 대기열 키 (샤드가 1개면 기존 키 그대로 사용)
+     */
+    private String waitQueueKey(Long concertOptionId, Long userId) {
+        int shards = queueProperties.shardsOf(concertOptionId);
+        return shards == 1 ? RedisKeys.waitQueue(concertOptionId) : RedisKeys.waitQueue(concertOptionId, shardOf(userId, shards));
+    }
+
+    private List<String> waitQueueKeys(Long concertOptionId) {
+        return RedisKeys.waitQueues(concertOptionId, queueProperties.shardsOf(concertOptionId));
+    }
+
+    /**
+     * 연속된 userId가 같은 샤드에 몰리지 않도록 섞은 뒤 나머지 연산
+     */
+    private static int shardOf(Long userId, int shards) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(mixed ^ (mixed >>> 32), (long) shards);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private AtomicLong waitingGauge(Long concertOptionId) {
+        return waitingCounts.computeIfAbsent(concertOptionId, id -> {
+            AtomicLong waiting = new AtomicLong();
+            Gauge.builder("queue.waiting", waiting, AtomicLong::get)
+                    .description("대기열에 남아 있는 인원 (입장 처리 시점 기준)")
+                    .baseUnit("users")
+                    .tag("concertOptionId", String.valueOf(id))
+                    .register(meterRegistry);
+            return waiting;
+        });
+    }
+
+    private Timer queueWaitTimer(Long concertOptionId) {
+        return Timer.builder("queue.wait")
+                .description("대기열 진입부터 활성 세션 전환까지 걸린 시간")
+                .tag("concertOptionId", String.valueOf(concertOptionId))
+                .register(meterRegistry);
+    }
+
+    private Counter admittedCounter(Long concertOptionId) {
+        return Counter.builder("queue.admitted")
+                .description("대기열에서 활성 세션으로 전환된 인원 (rate()로 초당 입장 인원 확인)")
+                .baseUnit("users")
+                .tag("concertOptionId", String.valueOf(concertOptionId))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 유저와 진입 시각
+     */
+    public record WaitingUser(Long userId, double enteredAt) {
+    }
+
+    /**
+     * 입장 후보 (유저가 속한 샤드 키)
      */
-    public Long getRank(Long concertOptionId, Long userId) { return null; }
-}
\ No newline at end of file
+    private record Candidate(String queueKey, WaitingUser user) {
+    }
+}
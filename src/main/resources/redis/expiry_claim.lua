@@ -0,0 +1,16 @@
+-- 만료 예약 선점 스크립트 (선점에 성공한 노드만 만료 처리)
+-- 항목을 지우지 않고 score를 임대 만료 시각으로 미뤄 두며, 만료 처리가 커밋된 뒤 호출 측에서 ZREM 한다.
+-- 처리 도중 실패하거나 노드가 죽으면 임대 만료 후 sweep이 인계받는다.
+-- KEYS[1] = reservation:expiry
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 임대 만료 시각(ms), ARGV[3..n] = 타이밍 휠에서 만료된 reservationId
+-- return 이번 호출에서 선점한 reservationId 목록
+local now = tonumber(ARGV[1])
+local claimed = {}
+for i = 3, #ARGV do
+    local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+    if score and tonumber(score) <= now then
+        redis.call('ZADD', KEYS[1], 'XX', ARGV[2], ARGV[i])
+        claimed[#claimed + 1] = ARGV[i]
+    end
+end
+return claimed
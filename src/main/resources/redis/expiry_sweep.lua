@@ -0,0 +1,11 @@
+-- 마감이 지났는데 처리되지 않은 예약 선점 스크립트 (담당 노드 장애 시 인계용)
+-- 항목을 지우지 않고 score를 임대 만료 시각으로 미뤄 두며, 만료 처리가 커밋된 뒤 호출 측에서 ZREM 한다.
+-- 처리 도중 실패하거나 노드가 죽으면 임대 만료 후 다시 sweep 대상이 된다.
+-- KEYS[1] = reservation:expiry
+-- ARGV[1] = 기준 시각(ms), ARGV[2] = 최대 건수, ARGV[3] = 임대 만료 시각(ms)
+-- return 이번 호출에서 선점한 reservationId 목록
+local overdue = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+for i = 1, #overdue do
+    redis.call('ZADD', KEYS[1], 'XX', ARGV[3], overdue[i])
+end
+return overdue
@@ -0,0 +1,15 @@
+-- 대기열 진입 가능 여부 확인 스크립트 (1인 1큐 제한)
+-- 대기열 ZSET 등록은 호출 측에서 유저의 샤드 키에 ZADD NX로 따로 수행한다.
+-- KEYS[1] = user:status:{userId}
+-- KEYS[2] = queue:active:{optionId}:{userId}
+-- ARGV[1] = optionId, ARGV[2] = 대기 상태 TTL(ms)
+-- return 1 = 대기열 진입 가능(대기 상태 키 갱신), 0 = 이미 활성 세션 보유, -1 = 다른 회차 대기 중
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+local current = redis.call('GET', KEYS[1])
+if current and current ~= ARGV[1] then
+    return -1
+end
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+return 1
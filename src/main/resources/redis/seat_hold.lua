@@ -0,0 +1,12 @@
+-- 좌석 선점 스크립트
+-- KEYS[1] = queue:active:{optionId}:{userId}
+-- KEYS[2] = seat:hold:{optionId}:{seatId}
+-- ARGV[1] = userId, ARGV[2] = 선점 TTL(ms)
+-- return  1 = 선점 성공, 0 = 이미 선점된 좌석, -1 = 활성 세션 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+if redis.call('SET', KEYS[2], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return 1
+end
+return 0
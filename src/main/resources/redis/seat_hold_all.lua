@@ -0,0 +1,17 @@
+-- 좌석 일괄 선점 스크립트 (모든 좌석이 비어 있을 때만 전부 선점)
+-- KEYS[1] = queue:active:{optionId}:{userId}
+-- KEYS[2..n] = seat:hold:{optionId}:{seatId}
+-- ARGV[1] = userId, ARGV[2] = 선점 TTL(ms)
+-- return  1 = 선점 성공, 0 = 이미 선점된 좌석이 있음, -1 = 활성 세션 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+for i = 2, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        return 0
+    end
+end
+for i = 2, #KEYS do
+    redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+end
+return 1
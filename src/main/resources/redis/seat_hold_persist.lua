@@ -0,0 +1,13 @@
+-- 좌석 선점 키 만료 해제 스크립트 (예약이 DB에 저장된 뒤 호출)
+-- 이후 선점 키는 결제되면 그대로 남고, 미결제 예약은 만료 처리기(ReservationExpiryProcessor)가 지운다.
+-- KEYS[1..n] = seat:hold:{optionId}:{seatId}
+-- ARGV[1] = 선점한 userId
+-- return 만료를 해제한 키 수 (다른 유저가 다시 선점한 키는 건드리지 않음)
+local persisted = 0
+for i = 1, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[1] then
+        redis.call('PERSIST', KEYS[i])
+        persisted = persisted + 1
+    end
+end
+return persisted
@@ -0,0 +1,12 @@
+-- 좌석 선점 키 반환 스크립트 (선점자가 일치할 때만 삭제)
+-- KEYS[1..n] = seat:hold:{optionId}:{seatId}
+-- ARGV[1..n] = KEYS[i]를 선점했던 userId
+-- return 삭제한 키 수
+local released = 0
+for i = 1, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[i] then
+        redis.call('DEL', KEYS[i])
+        released = released + 1
+    end
+end
+return released
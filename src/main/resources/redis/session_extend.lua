@@ -0,0 +1,19 @@
+-- 활성 세션 연장 스크립트
+-- KEYS[1] = queue:active:{optionId}:{userId}
+-- KEYS[2] = queue:extend:{optionId}:{userId}
+-- KEYS[3] = queue:active-set:{optionId}
+-- ARGV[1] = userId, ARGV[2] = 현재 시각(ms), ARGV[3] = 세션 TTL(ms), ARGV[4] = 최대 연장 횟수
+-- return 1 = 연장 성공, -1 = 활성 세션 없음, -2 = 연장 횟수 초과
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+local count = redis.call('INCR', KEYS[2])
+if count == 1 then
+    redis.call('PEXPIRE', KEYS[2], tonumber(ARGV[3]) * (tonumber(ARGV[4]) + 1))
+end
+if count > tonumber(ARGV[4]) then
+    return -2
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('ZADD', KEYS[3], tonumber(ARGV[2]) + tonumber(ARGV[3]), ARGV[1])
+return 1
@@ -3,7 +3,7 @@ package com.study.ticket;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "ticket.admission.secret=test-admission-secret-at-least-32-bytes")
 class TicketApplicationTests {
 
     @Test
@@ -0,0 +1,83 @@
+package com.study.ticket.common.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionTokenCodecTest {
+
+    private static final String SECRET = "test-admission-secret-at-least-32-bytes";
+
+    private final AdmissionTokenCodec codec = new AdmissionTokenCodec(properties(SECRET));
+
+    @Test
+    void issuedTokenVerifiesWithSameClaims() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        AdmissionClaims claims = codec.verify(codec.issue(7L, 42L, expiresAt));
+
+        assertThat(claims).isEqualTo(new AdmissionClaims(7L, 42L, expiresAt));
+        assertThat(claims.isFor(42L)).isTrue();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        assertThat(codec.verify(codec.issue(7L, 42L, System.currentTimeMillis() - 1))).isNull();
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        String token = codec.issue(7L, 42L, expiresAt);
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+
+        assertThat(codec.verify("7.43." + expiresAt + "." + signature)).isNull();
+        assertThat(codec.verify("8.42." + expiresAt + "." + signature)).isNull();
+        assertThat(codec.verify("7.42." + (expiresAt + 60_000) + "." + signature)).isNull();
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() {
+        String token = codec.issue(7L, 42L, System.currentTimeMillis() + 60_000);
+        // 서명 첫 글자는 6비트 모두 서명 바이트에 쓰이므로 바꾸면 서명이 달라진다
+        int signatureAt = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureAt);
+        String tampered = token.substring(0, signatureAt) + (first == 'A' ? 'B' : 'A') + token.substring(signatureAt + 1);
+
+        assertThat(codec.verify(tampered)).isNull();
+    }
+
+    @Test
+    void tokenSignedWithOtherSecretIsRejected() {
+        AdmissionTokenCodec other = new AdmissionTokenCodec(properties("another-admission-secret-at-least-32-bytes"));
+
+        assertThat(codec.verify(other.issue(7L, 42L, System.currentTimeMillis() + 60_000))).isNull();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThat(codec.verify(null)).isNull();
+        assertThat(codec.verify("")).isNull();
+        assertThat(codec.verify("no-dots")).isNull();
+        assertThat(codec.verify(".signature")).isNull();
+        assertThat(codec.verify("7.42.signature")).isNull();
+        assertThat(codec.verify("a.b.c.signature")).isNull();
+        assertThat(codec.verify("7.42.1.not*base64")).isNull();
+    }
+
+    @Test
+    void missingOrShortSecretFailsFast() {
+        assertThatThrownBy(() -> new AdmissionTokenCodec(properties(null))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AdmissionTokenCodec(properties(" "))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AdmissionTokenCodec(properties("too-short"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AdmissionProperties properties(String secret) {
+        return new AdmissionProperties(true, secret, List.of(), 5, 10, 2000, 4000, 16,
+                Duration.ofMillis(300), 0.9, Duration.ofSeconds(1));
+    }
+}
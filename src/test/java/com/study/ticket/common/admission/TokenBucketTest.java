@@ -0,0 +1,77 @@
+package com.study.ticket.common.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWaitForNextToken() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        // 초당 10개 -> 토큰 1개가 차는 데 100ms
+        assertThat(bucket.tryAcquire(0)).isCloseTo(100 * MILLIS, within(1L));
+    }
+
+    @Test
+    void refillsByElapsedTimeAndReportsOnlyRemainingDeficit() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+        drain(bucket, 3, 0);
+
+        // 250ms 동안 2.5개가 차므로 2개 허용, 남은 0.5개를 채우는 데 50ms
+        long now = 250 * MILLIS;
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isCloseTo(50 * MILLIS, within(1L));
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+        drain(bucket, 3, 0);
+
+        long now = 10_000 * MILLIS;
+        drain(bucket, 3, now);
+        assertThat(bucket.tryAcquire(now)).isPositive();
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotAddTokens() {
+        TokenBucket bucket = new TokenBucket(10, 1, 500 * MILLIS);
+        drain(bucket, 1, 500 * MILLIS);
+
+        assertThat(bucket.tryAcquire(0)).isPositive();
+    }
+
+    @Test
+    void zeroRateNeverRefills() {
+        TokenBucket bucket = new TokenBucket(0, 1, 0);
+        drain(bucket, 1, 0);
+
+        assertThat(bucket.tryAcquire(60_000 * MILLIS)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void updateRateKeepsTokensAccruedAtPreviousRate() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        drain(bucket, 10, 0);
+
+        // 100ms 동안 이전 속도(초당 10개)로 1개가 찬 뒤 초당 1000개로 변경
+        bucket.updateRate(1000, 100 * MILLIS);
+        assertThat(bucket.tryAcquire(100 * MILLIS)).isZero();
+        assertThat(bucket.tryAcquire(100 * MILLIS)).isCloseTo(MILLIS, within(1L));
+    }
+
+    private static void drain(TokenBucket bucket, int tokens, long now) {
+        for (int i = 0; i < tokens; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+    }
+}
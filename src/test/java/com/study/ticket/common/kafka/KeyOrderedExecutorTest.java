@@ -0,0 +1,103 @@
+package com.study.ticket.common.kafka;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyOrderedExecutorTest {
+
+    @Test
+    void itemsWithSameKeyAreHandledInInputOrder() {
+        List<int[]> items = new ArrayList<>();
+        for (int sequence = 0; sequence < 1_000; sequence++) {
+            items.add(new int[]{sequence % 37, sequence});
+        }
+        Map<Integer, Queue<Integer>> handled = new ConcurrentHashMap<>();
+
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 8)) {
+            executor.execute(items, item -> item[0], item -> {
+                if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                    Thread.yield();
+                }
+                handled.computeIfAbsent(item[0], key -> new ConcurrentLinkedQueue<>()).add(item[1]);
+            });
+        }
+
+        assertThat(handled).hasSize(37);
+        handled.values().forEach(sequences -> assertThat(sequences).isSorted());
+        assertThat(handled.values().stream().mapToInt(Queue::size).sum()).isEqualTo(items.size());
+    }
+
+    @Test
+    void differentLanesRunConcurrently() {
+        // 키 0, 1은 서로 다른 레인 -> 두 레인이 동시에 실행되어야 배리어를 통과한다
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 2)) {
+            executor.execute(List.of(0, 1), key -> key, key -> {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        assertThat(barrier.isBroken()).isFalse();
+    }
+
+    @Test
+    void singleLaneRunsOnCallerThread() {
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 1)) {
+            executor.execute(List.of(1, 2, 3), key -> key, key -> handlerThread.set(Thread.currentThread()));
+        }
+
+        assertThat(handlerThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void failureSkipsRestOfLaneAndIsRethrownAfterOtherLanesFinish() {
+        // 레인 = item % 2 : 레인 0은 2에서 실패하여 4, 6, 8을 건너뛰고, 레인 1은 끝까지 처리
+        List<Integer> items = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Queue<Integer> handled = new ConcurrentLinkedQueue<>();
+
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 2)) {
+            assertThatThrownBy(() -> executor.execute(items, item -> item % 2, item -> {
+                if (item == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                handled.add(item);
+            })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        }
+
+        assertThat(handled).containsExactlyInAnyOrder(0, 1, 3, 5, 7, 9);
+    }
+
+    @Test
+    void failureOnCallerThreadPropagatesAsIs() {
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 1)) {
+            assertThatThrownBy(() -> executor.execute(List.of(1), key -> key, key -> {
+                throw new IllegalArgumentException("bad");
+            })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad");
+        }
+    }
+
+    @Test
+    void nonPositiveLanesAreRejected() {
+        assertThatThrownBy(() -> new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.study.ticket.common.kafka;
+
+import com.study.ticket.domain.dto.event.ReservationEvent;
+import com.study.ticket.domain.service.ReservationExpiryScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketEventConsumerTest {
+
+    private final ProcessedEventStore processedEventStore = mock(ProcessedEventStore.class);
+    private final ReservationExpiryScheduler reservationExpiryScheduler = mock(ReservationExpiryScheduler.class);
+    private final KeyOrderedExecutor executor = new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 2);
+    private final TicketEventConsumer consumer = new TicketEventConsumer(
+            processedEventStore, reservationExpiryScheduler, executor, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void eventStillProcessedByAnotherConsumerIsRedeliveredInsteadOfCommitted() {
+        // 리밸런스 직후: 이전 담당 노드가 아직 처리 중인 이벤트를 새 담당 노드가 받음
+        when(processedEventStore.claim(List.of(1L)))
+                .thenReturn(new ProcessedEventStore.ClaimResult(List.of(), List.of(1L)));
+
+        assertThatThrownBy(() -> consumer.handleReservationEvents(List.of(event(1L, 10L))))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(reservationExpiryScheduler, never()).register(anyList());
+        verify(processedEventStore, never()).complete(anyList());
+        verify(processedEventStore, never()).release(anyList());
+    }
+
+    @Test
+    void freshEventsAreCompletedBeforeRedeliveryIsRequested() {
+        ReservationEvent inProgress = event(1L, 10L);
+        ReservationEvent fresh = event(2L, 20L);
+        when(processedEventStore.claim(List.of(1L, 2L)))
+                .thenReturn(new ProcessedEventStore.ClaimResult(List.of(2L), List.of(1L)));
+
+        assertThatThrownBy(() -> consumer.handleReservationEvents(List.of(inProgress, fresh)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 재전달된 배치에서는 2번이 처리 완료로 건너뛰어진다
+        verify(reservationExpiryScheduler).register(List.of(fresh));
+        verify(processedEventStore).complete(List.of(2L));
+        verify(processedEventStore, never()).release(anyList());
+    }
+
+    @Test
+    void completedDuplicatesAreSkippedAndCommitted() {
+        when(processedEventStore.claim(List.of(1L)))
+                .thenReturn(new ProcessedEventStore.ClaimResult(List.of(), List.of()));
+
+        assertThatCode(() -> consumer.handleReservationEvents(List.of(event(1L, 10L), event(1L, 10L))))
+                .doesNotThrowAnyException();
+
+        verify(reservationExpiryScheduler, never()).register(anyList());
+    }
+
+    @Test
+    void claimIsReleasedWhenProcessingFails() {
+        when(processedEventStore.claim(List.of(1L)))
+                .thenReturn(new ProcessedEventStore.ClaimResult(List.of(1L), List.of()));
+        doThrow(new IllegalStateException("redis down"))
+                .when(reservationExpiryScheduler).register(any());
+
+        assertThatThrownBy(() -> consumer.handleReservationEvents(List.of(event(1L, 10L))))
+                .hasMessage("redis down");
+
+        verify(processedEventStore).release(List.of(1L));
+        verify(processedEventStore, never()).complete(anyList());
+    }
+
+    private static ReservationEvent event(Long reservationId, Long userId) {
+        return new ReservationEvent(reservationId, userId, reservationId * 100, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.ticket.common.kafka.codec;
+
+import com.study.ticket.domain.dto.event.ReservationEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCodecsTest {
+
+    @Test
+    void reservationEventRoundTrips() {
+        ReservationEvent event = new ReservationEvent(123_456_789L, 42L, 7L, LocalDateTime.of(2026, 10, 18, 14, 30, 15, 123_456_789));
+
+        byte[] payload = EventCodecs.encode(event);
+
+        assertThat(EventCodecs.isBinary(payload)).isTrue();
+        assertThat(EventCodecs.decode(payload)).isEqualTo(event);
+    }
+
+    @Test
+    void nullFieldsRoundTrip() {
+        ReservationEvent event = new ReservationEvent(null, 42L, null, null);
+
+        assertThat(EventCodecs.decode(EventCodecs.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void zeroNegativeAndLargeValuesRoundTrip() {
+        ReservationEvent event = new ReservationEvent(0L, -1L, Long.MAX_VALUE, LocalDateTime.of(1969, 12, 31, 23, 59, 59));
+
+        assertThat(EventCodecs.decode(EventCodecs.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        byte[] payload = EventCodecs.encode(new ReservationEvent(1L, 2L, 3L, LocalDateTime.now()));
+        payload[2] = 99;
+
+        assertThatThrownBy(() -> EventCodecs.decode(payload)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unknownTypeIsRejected() {
+        byte[] payload = EventCodecs.encode(new ReservationEvent(1L, 2L, 3L, LocalDateTime.now()));
+        payload[1] = 99;
+
+        assertThatThrownBy(() -> EventCodecs.decode(payload)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void truncatedPayloadIsRejected() {
+        byte[] payload = EventCodecs.encode(new ReservationEvent(1L, 2L, 3L, LocalDateTime.now()));
+
+        assertThatThrownBy(() -> EventCodecs.decode(Arrays.copyOf(payload, payload.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void jsonPayloadIsNotBinary() {
+        byte[] json = "{\"reservationId\":1}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(EventCodecs.isBinary(json)).isFalse();
+        assertThat(EventCodecs.isBinary(null)).isFalse();
+        assertThatThrownBy(() -> EventCodecs.decode(json)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void eventWithoutCodecIsRejected() {
+        assertThat(EventCodecs.supports(String.class)).isFalse();
+        assertThatThrownBy(() -> EventCodecs.encode("not an event")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
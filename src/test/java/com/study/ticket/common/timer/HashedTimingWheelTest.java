@@ -0,0 +1,91 @@
+package com.study.ticket.common.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() throws Exception {
+        CountDownLatch expired = new CountDownLatch(1);
+        try (HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", TICK_MILLIS, 8, items -> expired.countDown())) {
+            wheel.start();
+            wheel.schedule("past", System.currentTimeMillis() - 1_000);
+
+            assertThat(expired.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void itemsAreNotExpiredBeforeDeadlineEvenBeyondOneRound() throws Exception {
+        // 버킷 4개 x 10ms = 한 바퀴 40ms 이므로 200ms 뒤 마감은 여러 바퀴를 돌아야 만료된다
+        Map<Integer, Long> expiredAt = new ConcurrentHashMap<>();
+        CountDownLatch expired = new CountDownLatch(2);
+        try (HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>("test-wheel", TICK_MILLIS, 4, items -> {
+            long now = System.currentTimeMillis();
+            items.forEach(item -> {
+                expiredAt.put(item, now);
+                expired.countDown();
+            });
+        })) {
+            wheel.start();
+            long scheduledAt = System.currentTimeMillis();
+            wheel.schedule(50, scheduledAt + 50);
+            wheel.schedule(200, scheduledAt + 200);
+
+            assertThat(expired.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(expiredAt.get(50)).isGreaterThanOrEqualTo(scheduledAt + 50 - TICK_MILLIS);
+            assertThat(expiredAt.get(200)).isGreaterThanOrEqualTo(scheduledAt + 200 - TICK_MILLIS);
+            assertThat(expiredAt.get(200)).isGreaterThan(expiredAt.get(50));
+        }
+    }
+
+    @Test
+    void itemsExpiringOnSameTickAreDeliveredTogether() throws Exception {
+        CountDownLatch expired = new CountDownLatch(1);
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        try (HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", TICK_MILLIS, 8, items -> {
+            batches.add(items);
+            expired.countDown();
+        })) {
+            long deadline = System.currentTimeMillis() - 1;
+            wheel.schedule("a", deadline);
+            wheel.schedule("b", deadline);
+            wheel.schedule("c", deadline);
+            wheel.start();
+
+            assertThat(expired.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(batches.getFirst()).containsExactly("a", "b", "c");
+        }
+    }
+
+    @Test
+    void callbackFailureDoesNotStopWorker() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch second = new CountDownLatch(1);
+        try (HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", TICK_MILLIS, 8, items -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            second.countDown();
+        })) {
+            wheel.start();
+            wheel.schedule("first", System.currentTimeMillis());
+            Thread.sleep(TICK_MILLIS * 5);
+            wheel.schedule("second", System.currentTimeMillis());
+
+            assertThat(second.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.study.ticket.domain.inventory;
+
+import com.study.ticket.domain.Entity.Seat;
+import com.study.ticket.domain.constant.SeatStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatInventoryTest {
+
+    private static final long OPTION_ID = 1L;
+
+    @Test
+    void onlyOneConcurrentHoldOnSameSlotSucceeds() throws Exception {
+        SeatInventory inventory = inventory(seats(128, SeatStatus.AVAILABLE));
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                long userId = i + 1;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return inventory.tryHold(70, userId);
+                }));
+            }
+            start.countDown();
+
+            int held = 0;
+            for (Future<Boolean> result : results) {
+                held += result.get() ? 1 : 0;
+            }
+            assertThat(held).isEqualTo(1);
+        }
+        assertThat(inventory.isOccupied(70)).isTrue();
+        assertThat(inventory.holder(70)).isBetween(1L, (long) threads);
+        assertThat(inventory.availableCount()).isEqualTo(127);
+    }
+
+    @Test
+    void tryHoldAllRollsBackSlotsHeldInThisCallOnConflict() {
+        SeatInventory inventory = inventory(seats(8, SeatStatus.AVAILABLE));
+        assertThat(inventory.tryHold(2, 99L)).isTrue();
+
+        assertThat(inventory.tryHoldAll(new int[]{0, 1, 2, 3}, 7L)).isFalse();
+
+        assertThat(inventory.isOccupied(0)).isFalse();
+        assertThat(inventory.isOccupied(1)).isFalse();
+        assertThat(inventory.isOccupied(3)).isFalse();
+        assertThat(inventory.holder(2)).isEqualTo(99L);
+        assertThat(inventory.availableCount()).isEqualTo(7);
+    }
+
+    @Test
+    void tryHoldAllRecordsHolderForEverySlot() {
+        SeatInventory inventory = inventory(seats(8, SeatStatus.AVAILABLE));
+        long versionBefore = inventory.version();
+
+        assertThat(inventory.tryHoldAll(new int[]{4, 5, 6}, 7L)).isTrue();
+
+        for (int slot = 4; slot <= 6; slot++) {
+            assertThat(inventory.isOccupied(slot)).isTrue();
+            assertThat(inventory.holder(slot)).isEqualTo(7L);
+            assertThat(inventory.changedAt(slot)).isGreaterThan(versionBefore);
+        }
+    }
+
+    @Test
+    void onlyHolderCanReleaseAndReleasedSlotCanBeHeldAgain() {
+        SeatInventory inventory = inventory(seats(8, SeatStatus.AVAILABLE));
+        assertThat(inventory.tryHold(3, 10L)).isTrue();
+
+        assertThat(inventory.release(3, 11L)).isFalse();
+        assertThat(inventory.holder(3)).isEqualTo(10L);
+
+        assertThat(inventory.release(3, 10L)).isTrue();
+        assertThat(inventory.isOccupied(3)).isFalse();
+        assertThat(inventory.holder(3)).isZero();
+        assertThat(inventory.release(3, 10L)).isFalse();
+
+        assertThat(inventory.tryHold(3, 11L)).isTrue();
+        assertThat(inventory.holder(3)).isEqualTo(11L);
+    }
+
+    @Test
+    void nonAvailableSeatsAreLoadedAsOccupied() {
+        List<Seat> seats = seats(4, SeatStatus.AVAILABLE);
+        ReflectionTestUtils.setField(seats.get(1), "status", SeatStatus.SOLD);
+        SeatInventory inventory = new SeatInventory(OPTION_ID, seats, Map.of(2L, 42L), 0L);
+
+        assertThat(inventory.isOccupied(1)).isTrue();
+        assertThat(inventory.holder(1)).isEqualTo(42L);
+        assertThat(inventory.tryHold(1, 7L)).isFalse();
+    }
+
+    @Test
+    void findsAdjacentAvailableSeatsInSameRow() {
+        SeatInventory inventory = inventory(seats(8, SeatStatus.AVAILABLE));
+        inventory.tryHold(1, 5L);
+
+        assertThat(inventory.findAdjacentAvailable(3)).isEqualTo(2);
+        assertThat(inventory.findAdjacentAvailable(9)).isEqualTo(-1);
+    }
+
+    private static SeatInventory inventory(List<Seat> seats) {
+        return new SeatInventory(OPTION_ID, seats, Map.of(), 0L);
+    }
+
+    /**
+     * seatId 1부터, 좌석 번호 "A-1"부터 한 열로 이어진 좌석 목록 (엔티티에 생성자가 없어 리플렉션으로 채움)
+     */
+    private static List<Seat> seats(int count, SeatStatus status) {
+        List<Seat> seats = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Seat seat = BeanUtils.instantiateClass(Seat.class);
+            ReflectionTestUtils.setField(seat, "id", (long) i);
+            ReflectionTestUtils.setField(seat, "seatNumber", "A-" + i);
+            ReflectionTestUtils.setField(seat, "concertOptionId", OPTION_ID);
+            ReflectionTestUtils.setField(seat, "price", 10_000L);
+            ReflectionTestUtils.setField(seat, "status", status);
+            seats.add(seat);
+        }
+        return seats;
+    }
+}
@@ -0,0 +1,143 @@
+package com.study.ticket.domain.payment;
+
+import com.study.ticket.common.redis.RedisKeys;
+import com.study.ticket.domain.repository.ReservationRepository;
+import com.study.ticket.domain.repository.SeatRepository;
+import com.study.ticket.domain.service.PointLedger;
+import com.study.ticket.domain.service.WaitingQueueService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 경로별 처리량 비교 (jpa vs jdbc)
+ * 같은 조건의 예약 N건을 동시에 결제하고 초당 결제 건수를 로그로 남긴다.
+ * ./gradlew test -Pbenchmark --tests '*PaymentPathBenchmarkTest'
+ */
+@SpringBootTest(properties = "ticket.admission.secret=test-admission-secret-at-least-32-bytes")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PaymentPathBenchmarkTest {
+
+    private static final int PAYMENTS = 2_000;
+    private static final int THREADS = 32;
+    private static final long PRICE = 10_000L;
+    private static final Logger log = LoggerFactory.getLogger(PaymentPathBenchmarkTest.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private SeatRepository seatRepository;
+    @Autowired
+    private WaitingQueueService waitingQueueService;
+    @Autowired
+    private PointLedger pointLedger;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compare() throws Exception {
+        PaymentProcessor jpa = new JpaPaymentProcessor(reservationRepository, seatRepository,
+                waitingQueueService, pointLedger, transactionTemplate);
+        PaymentProcessor jdbc = new JdbcPaymentProcessor(jdbcTemplate, waitingQueueService, transactionTemplate);
+
+        // 워밍업 후 측정
+        run("jpa-warmup", jpa, 900_001L);
+        run("jdbc-warmup", jdbc, 900_002L);
+        double jpaTps = run("jpa", jpa, 900_003L);
+        double jdbcTps = run("jdbc", jdbc, 900_004L);
+
+        log.info("[payment-benchmark] jpa={}/s jdbc={}/s (x{})",
+                String.format("%.1f", jpaTps), String.format("%.1f", jdbcTps), String.format("%.2f", jdbcTps / jpaTps));
+    }
+
+    private double run(String name, PaymentProcessor processor, long concertOptionId) throws Exception {
+        List<long[]> reservations = prepare(concertOptionId);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            long startedAt = System.nanoTime();
+            List<Future<PaymentResult>> results = new ArrayList<>(reservations.size());
+            for (long[] reservation : reservations) {
+                results.add(executor.submit(() -> processor.pay(reservation[0], reservation[1])));
+            }
+            for (Future<PaymentResult> result : results) {
+                assertThat(result.get()).isEqualTo(PaymentResult.PAID);
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            log.info("[payment-benchmark] {}: {} payments in {}s", name, reservations.size(), String.format("%.2f", elapsedSeconds));
+            return reservations.size() / elapsedSeconds;
+        } finally {
+            cleanUp(concertOptionId);
+        }
+    }
+
+    /**
+     * 회차 하나에 유저/좌석/미결제 예약을 PAYMENTS건 만들고 활성 세션을 부여
+     * @return {reservationId, userId} 목록
+     */
+    private List<long[]> prepare(long concertOptionId) {
+        cleanUp(concertOptionId);
+        String prefix = "bench-" + concertOptionId + "-";
+        List<Object[]> users = new ArrayList<>(PAYMENTS);
+        List<Object[]> seats = new ArrayList<>(PAYMENTS);
+        for (int i = 0; i < PAYMENTS; i++) {
+            users.add(new Object[]{prefix + i, PRICE});
+            seats.add(new Object[]{prefix + i, concertOptionId, PRICE});
+        }
+        jdbcTemplate.batchUpdate("insert into users (name, points) values (?, ?)", users);
+        jdbcTemplate.batchUpdate("insert into seat (seat_number, concert_option_id, price, seat_status) values (?, ?, ?, 'RESERVED')", seats);
+        jdbcTemplate.update("""
+                insert into reservation (user_id, seat_id, reservation_status)
+                select u.user_id, s.seat_id, 'NOT_PAID'
+                from users u join seat s on s.seat_number = u.name and s.concert_option_id = ?""", concertOptionId);
+
+        List<long[]> reservations = jdbcTemplate.query("""
+                select r.reservation_id, r.user_id
+                from reservation r join seat s on s.seat_id = r.seat_id
+                where s.concert_option_id = ?""",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, concertOptionId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long[] reservation : reservations) {
+                connection.stringCommands().set(
+                        RedisKeys.activeSession(concertOptionId, reservation[1]).getBytes(),
+                        "1".getBytes(),
+                        Expiration.from(Duration.ofMinutes(5)),
+                        SetOption.upsert());
+            }
+            return null;
+        });
+        return reservations;
+    }
+
+    private void cleanUp(long concertOptionId) {
+        String prefix = "bench-" + concertOptionId + "-%";
+        jdbcTemplate.update("""
+                delete p from point_transaction p join users u on u.user_id = p.user_id
+                where u.name like ?""", prefix);
+        jdbcTemplate.update("""
+                delete r from reservation r join seat s on s.seat_id = r.seat_id
+                where s.concert_option_id = ?""", concertOptionId);
+        jdbcTemplate.update("delete from seat where concert_option_id = ?", concertOptionId);
+        jdbcTemplate.update("delete from users where name like ?", prefix);
+    }
+}
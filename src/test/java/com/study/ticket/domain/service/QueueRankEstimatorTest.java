@@ -0,0 +1,130 @@
+package com.study.ticket.domain.service;
+
+import com.study.ticket.domain.service.QueueRankEstimator.RankIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QueueRankEstimatorTest {
+
+    private static final long BUILT_AT = 1_000_000L;
+
+    // 100명이 대기 중인 샤드의 표본: 순위 0, 50, 99 의 진입 시각
+    private static final double[] SCORES = {100, 200, 300};
+    private static final long[] RANKS = {0, 50, 99};
+
+    @Test
+    void scoreAtOrBeforeFirstSampleHasNobodyAhead() {
+        assertThat(QueueRankEstimator.interpolate(SCORES, RANKS, 50)).isZero();
+        assertThat(QueueRankEstimator.interpolate(SCORES, RANKS, 100)).isZero();
+    }
+
+    @Test
+    void scoreAfterLastSampleIsBehindEveryoneSampled() {
+        // 인덱스 생성 이후 들어온 유저는 마지막 순위 바로 뒤
+        assertThat(QueueRankEstimator.interpolate(SCORES, RANKS, 400)).isEqualTo(100);
+    }
+
+    @Test
+    void scoreBetweenSamplesIsInterpolatedLinearly() {
+        assertThat(QueueRankEstimator.interpolate(SCORES, RANKS, 150)).isCloseTo(25, within(1e-9));
+        assertThat(QueueRankEstimator.interpolate(SCORES, RANKS, 250)).isCloseTo(74.5, within(1e-9));
+    }
+
+    @Test
+    void scoreMatchingSampleUsesItsRank() {
+        assertThat(QueueRankEstimator.interpolate(SCORES, RANKS, 200)).isEqualTo(50);
+    }
+
+    @Test
+    void emptyShardContributesNobody() {
+        assertThat(QueueRankEstimator.interpolate(new double[0], new long[0], 150)).isZero();
+    }
+
+    @Test
+    void rankSumsEveryShardAheadOfTheUser() {
+        RankIndex index = new RankIndex(
+                new double[][]{SCORES, {120, 140}, {}},
+                new long[][]{RANKS, {0, 9}, {}},
+                0, 0, BUILT_AT);
+
+        // 샤드 0: 25명, 샤드 1: 10명(마지막 표본 뒤), 샤드 2: 비어 있음
+        assertThat(index.estimateRank(150, BUILT_AT)).isEqualTo(25 + 10 + 1);
+    }
+
+    @Test
+    void firstInLineIsRankOne() {
+        RankIndex index = new RankIndex(new double[][]{SCORES}, new long[][]{RANKS}, 0, 0, BUILT_AT);
+
+        assertThat(index.estimateRank(100, BUILT_AT)).isEqualTo(1);
+    }
+
+    @Test
+    void usersAdmittedSinceBuildAreSubtracted() {
+        RankIndex index = new RankIndex(new double[][]{SCORES}, new long[][]{RANKS}, 0, 10, BUILT_AT);
+
+        // 초당 10명 x 3초 = 30명이 그 사이 입장
+        assertThat(index.estimateRank(200, BUILT_AT + 3_000)).isEqualTo(50 - 30 + 1);
+    }
+
+    @Test
+    void rankNeverDropsBelowOneAfterAdmissions() {
+        RankIndex index = new RankIndex(new double[][]{SCORES}, new long[][]{RANKS}, 0, 100, BUILT_AT);
+
+        assertThat(index.estimateRank(150, BUILT_AT + 60_000)).isEqualTo(1);
+    }
+
+    @Test
+    void waitIsUnknownWhileAdmitRateIsZero() {
+        RankIndex index = new RankIndex(new double[][]{SCORES}, new long[][]{RANKS}, 0, 0, BUILT_AT);
+
+        assertThat(index.estimateWaitSeconds(10)).isNull();
+    }
+
+    @Test
+    void waitIsRankDividedByAdmitRate() {
+        RankIndex index = new RankIndex(new double[][]{SCORES}, new long[][]{RANKS}, 0, 4, BUILT_AT);
+
+        assertThat(index.estimateWaitSeconds(100)).isEqualTo(25);
+        assertThat(index.estimateWaitSeconds(10)).isEqualTo(3);
+    }
+
+    @Test
+    void admitRateStartsAtZeroThenTakesFirstMeasurement() {
+        assertThat(QueueRankEstimator.nextAdmitRate(null, 500, BUILT_AT)).isZero();
+
+        RankIndex first = new RankIndex(new double[0][], new long[0][], 500, 0, BUILT_AT);
+        assertThat(QueueRankEstimator.nextAdmitRate(first, 600, BUILT_AT + 5_000)).isCloseTo(20, within(1e-9));
+    }
+
+    @Test
+    void admitRateIsSmoothedAfterFirstMeasurement() {
+        RankIndex previous = new RankIndex(new double[0][], new long[0][], 600, 20, BUILT_AT);
+
+        // 순간 속도 0 -> 0.3 * 0 + 0.7 * 20
+        assertThat(QueueRankEstimator.nextAdmitRate(previous, 600, BUILT_AT + 5_000)).isCloseTo(14, within(1e-9));
+    }
+
+    @Test
+    void resetCounterIsTreatedAsNoAdmissions() {
+        RankIndex previous = new RankIndex(new double[0][], new long[0][], 600, 20, BUILT_AT);
+
+        assertThat(QueueRankEstimator.nextAdmitRate(previous, 0, BUILT_AT + 5_000)).isCloseTo(14, within(1e-9));
+    }
+
+    @Test
+    void admitRateIsKeptWhenClockDidNotAdvance() {
+        RankIndex previous = new RankIndex(new double[0][], new long[0][], 600, 20, BUILT_AT);
+
+        assertThat(QueueRankEstimator.nextAdmitRate(previous, 700, BUILT_AT)).isEqualTo(20);
+    }
+
+    @Test
+    void sampleRanksCoverFirstAndLastRank() {
+        assertThat(QueueRankEstimator.sampleRanks(0, 4)).isEmpty();
+        assertThat(QueueRankEstimator.sampleRanks(1, 4)).containsExactly(0);
+        assertThat(QueueRankEstimator.sampleRanks(3, 4)).containsExactly(0, 1, 2);
+        assertThat(QueueRankEstimator.sampleRanks(100, 4)).containsExactly(0, 33, 66, 99);
+    }
+}